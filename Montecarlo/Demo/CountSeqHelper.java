@@ -0,0 +1,61 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public final class CountSeqHelper
+{
+    public static void write(com.zeroc.Ice.OutputStream ostr, long[] v)
+    {
+        ostr.writeLongSeq(v);
+    }
+
+    public static long[] read(com.zeroc.Ice.InputStream istr)
+    {
+        final long[] v;
+        v = istr.readLongSeq();
+        return v;
+    }
+
+    public static void write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<long[]> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            write(ostr, tag, v.get());
+        }
+    }
+
+    public static void write(com.zeroc.Ice.OutputStream ostr, int tag, long[] v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            ostr.writeLongSeq(v);
+        }
+    }
+
+    public static java.util.Optional<long[]> read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            long[] v;
+            v = istr.readLongSeq();
+            return java.util.Optional.of(v);
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+}
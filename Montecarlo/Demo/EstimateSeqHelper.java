@@ -0,0 +1,61 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public final class EstimateSeqHelper
+{
+    public static void write(com.zeroc.Ice.OutputStream ostr, double[] v)
+    {
+        ostr.writeDoubleSeq(v);
+    }
+
+    public static double[] read(com.zeroc.Ice.InputStream istr)
+    {
+        final double[] v;
+        v = istr.readDoubleSeq();
+        return v;
+    }
+
+    public static void write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<double[]> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            write(ostr, tag, v.get());
+        }
+    }
+
+    public static void write(com.zeroc.Ice.OutputStream ostr, int tag, double[] v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            ostr.writeDoubleSeq(v);
+        }
+    }
+
+    public static java.util.Optional<double[]> read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            double[] v;
+            v = istr.readDoubleSeq();
+            return java.util.Optional.of(v);
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+}
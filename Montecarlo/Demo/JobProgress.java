@@ -0,0 +1,192 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public class JobProgress implements java.lang.Cloneable,
+                                    java.io.Serializable
+{
+    public long jobId;
+
+    public long totalPoints;
+
+    public long pointsThrown;
+
+    public long pointsInside;
+
+    public double estimate;
+
+    public double confidenceHalfWidth;
+
+    public JobProgress()
+    {
+    }
+
+    public JobProgress(long jobId, long totalPoints, long pointsThrown, long pointsInside, double estimate, double confidenceHalfWidth)
+    {
+        this.jobId = jobId;
+        this.totalPoints = totalPoints;
+        this.pointsThrown = pointsThrown;
+        this.pointsInside = pointsInside;
+        this.estimate = estimate;
+        this.confidenceHalfWidth = confidenceHalfWidth;
+    }
+
+    public boolean equals(java.lang.Object rhs)
+    {
+        if(this == rhs)
+        {
+            return true;
+        }
+        JobProgress r = null;
+        if(rhs instanceof JobProgress)
+        {
+            r = (JobProgress)rhs;
+        }
+
+        if(r != null)
+        {
+            if(this.jobId != r.jobId)
+            {
+                return false;
+            }
+            if(this.totalPoints != r.totalPoints)
+            {
+                return false;
+            }
+            if(this.pointsThrown != r.pointsThrown)
+            {
+                return false;
+            }
+            if(this.pointsInside != r.pointsInside)
+            {
+                return false;
+            }
+            if(this.estimate != r.estimate)
+            {
+                return false;
+            }
+            if(this.confidenceHalfWidth != r.confidenceHalfWidth)
+            {
+                return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    public int hashCode()
+    {
+        int h_ = 5381;
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, "::Demo::JobProgress");
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, jobId);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, totalPoints);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, pointsThrown);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, pointsInside);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, estimate);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, confidenceHalfWidth);
+        return h_;
+    }
+
+    public JobProgress clone()
+    {
+        JobProgress c = null;
+        try
+        {
+            c = (JobProgress)super.clone();
+        }
+        catch(CloneNotSupportedException ex)
+        {
+            assert false; // impossible
+        }
+        return c;
+    }
+
+    public void ice_writeMembers(com.zeroc.Ice.OutputStream ostr)
+    {
+        ostr.writeLong(this.jobId);
+        ostr.writeLong(this.totalPoints);
+        ostr.writeLong(this.pointsThrown);
+        ostr.writeLong(this.pointsInside);
+        ostr.writeDouble(this.estimate);
+        ostr.writeDouble(this.confidenceHalfWidth);
+    }
+
+    public void ice_readMembers(com.zeroc.Ice.InputStream istr)
+    {
+        this.jobId = istr.readLong();
+        this.totalPoints = istr.readLong();
+        this.pointsThrown = istr.readLong();
+        this.pointsInside = istr.readLong();
+        this.estimate = istr.readDouble();
+        this.confidenceHalfWidth = istr.readDouble();
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, JobProgress v)
+    {
+        if(v == null)
+        {
+            _nullMarshalValue.ice_writeMembers(ostr);
+        }
+        else
+        {
+            v.ice_writeMembers(ostr);
+        }
+    }
+
+    static public JobProgress ice_read(com.zeroc.Ice.InputStream istr)
+    {
+        JobProgress v = new JobProgress();
+        v.ice_readMembers(istr);
+        return v;
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<JobProgress> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            ice_write(ostr, tag, v.get());
+        }
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, JobProgress v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            ostr.writeSize(48);
+            ice_write(ostr, v);
+        }
+    }
+
+    static public java.util.Optional<JobProgress> ice_read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            istr.skipSize();
+            return java.util.Optional.of(JobProgress.ice_read(istr));
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+
+    private static final JobProgress _nullMarshalValue = new JobProgress();
+
+    /** @hidden */
+    public static final long serialVersionUID = -7649271827182870632L;
+}
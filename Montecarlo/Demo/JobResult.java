@@ -0,0 +1,172 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public class JobResult implements java.lang.Cloneable,
+                                  java.io.Serializable
+{
+    public long jobId;
+
+    public double estimate;
+
+    public double confidenceHalfWidth;
+
+    public long pointsThrown;
+
+    public JobResult()
+    {
+    }
+
+    public JobResult(long jobId, double estimate, double confidenceHalfWidth, long pointsThrown)
+    {
+        this.jobId = jobId;
+        this.estimate = estimate;
+        this.confidenceHalfWidth = confidenceHalfWidth;
+        this.pointsThrown = pointsThrown;
+    }
+
+    public boolean equals(java.lang.Object rhs)
+    {
+        if(this == rhs)
+        {
+            return true;
+        }
+        JobResult r = null;
+        if(rhs instanceof JobResult)
+        {
+            r = (JobResult)rhs;
+        }
+
+        if(r != null)
+        {
+            if(this.jobId != r.jobId)
+            {
+                return false;
+            }
+            if(this.estimate != r.estimate)
+            {
+                return false;
+            }
+            if(this.confidenceHalfWidth != r.confidenceHalfWidth)
+            {
+                return false;
+            }
+            if(this.pointsThrown != r.pointsThrown)
+            {
+                return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    public int hashCode()
+    {
+        int h_ = 5381;
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, "::Demo::JobResult");
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, jobId);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, estimate);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, confidenceHalfWidth);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, pointsThrown);
+        return h_;
+    }
+
+    public JobResult clone()
+    {
+        JobResult c = null;
+        try
+        {
+            c = (JobResult)super.clone();
+        }
+        catch(CloneNotSupportedException ex)
+        {
+            assert false; // impossible
+        }
+        return c;
+    }
+
+    public void ice_writeMembers(com.zeroc.Ice.OutputStream ostr)
+    {
+        ostr.writeLong(this.jobId);
+        ostr.writeDouble(this.estimate);
+        ostr.writeDouble(this.confidenceHalfWidth);
+        ostr.writeLong(this.pointsThrown);
+    }
+
+    public void ice_readMembers(com.zeroc.Ice.InputStream istr)
+    {
+        this.jobId = istr.readLong();
+        this.estimate = istr.readDouble();
+        this.confidenceHalfWidth = istr.readDouble();
+        this.pointsThrown = istr.readLong();
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, JobResult v)
+    {
+        if(v == null)
+        {
+            _nullMarshalValue.ice_writeMembers(ostr);
+        }
+        else
+        {
+            v.ice_writeMembers(ostr);
+        }
+    }
+
+    static public JobResult ice_read(com.zeroc.Ice.InputStream istr)
+    {
+        JobResult v = new JobResult();
+        v.ice_readMembers(istr);
+        return v;
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<JobResult> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            ice_write(ostr, tag, v.get());
+        }
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, JobResult v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            ostr.writeSize(32);
+            ice_write(ostr, v);
+        }
+    }
+
+    static public java.util.Optional<JobResult> ice_read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            istr.skipSize();
+            return java.util.Optional.of(JobResult.ice_read(istr));
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+
+    private static final JobResult _nullMarshalValue = new JobResult();
+
+    /** @hidden */
+    public static final long serialVersionUID = 2579375774308181355L;
+}
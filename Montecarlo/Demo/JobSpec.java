@@ -0,0 +1,177 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public class JobSpec implements java.lang.Cloneable,
+                                java.io.Serializable
+{
+    public long totalPoints;
+
+    public SamplingMode mode;
+
+    public boolean seeded;
+
+    public long seed;
+
+    public JobSpec()
+    {
+        this.mode = SamplingMode.Uniform;
+    }
+
+    public JobSpec(long totalPoints, SamplingMode mode, boolean seeded, long seed)
+    {
+        this.totalPoints = totalPoints;
+        this.mode = mode;
+        this.seeded = seeded;
+        this.seed = seed;
+    }
+
+    public boolean equals(java.lang.Object rhs)
+    {
+        if(this == rhs)
+        {
+            return true;
+        }
+        JobSpec r = null;
+        if(rhs instanceof JobSpec)
+        {
+            r = (JobSpec)rhs;
+        }
+
+        if(r != null)
+        {
+            if(this.totalPoints != r.totalPoints)
+            {
+                return false;
+            }
+            if(this.mode != r.mode)
+            {
+                if(this.mode == null || r.mode == null || !this.mode.equals(r.mode))
+                {
+                    return false;
+                }
+            }
+            if(this.seeded != r.seeded)
+            {
+                return false;
+            }
+            if(this.seed != r.seed)
+            {
+                return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    public int hashCode()
+    {
+        int h_ = 5381;
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, "::Demo::JobSpec");
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, totalPoints);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, mode);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, seeded);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, seed);
+        return h_;
+    }
+
+    public JobSpec clone()
+    {
+        JobSpec c = null;
+        try
+        {
+            c = (JobSpec)super.clone();
+        }
+        catch(CloneNotSupportedException ex)
+        {
+            assert false; // impossible
+        }
+        return c;
+    }
+
+    public void ice_writeMembers(com.zeroc.Ice.OutputStream ostr)
+    {
+        ostr.writeLong(this.totalPoints);
+        SamplingMode.ice_write(ostr, this.mode);
+        ostr.writeBool(this.seeded);
+        ostr.writeLong(this.seed);
+    }
+
+    public void ice_readMembers(com.zeroc.Ice.InputStream istr)
+    {
+        this.totalPoints = istr.readLong();
+        this.mode = SamplingMode.ice_read(istr);
+        this.seeded = istr.readBool();
+        this.seed = istr.readLong();
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, JobSpec v)
+    {
+        if(v == null)
+        {
+            _nullMarshalValue.ice_writeMembers(ostr);
+        }
+        else
+        {
+            v.ice_writeMembers(ostr);
+        }
+    }
+
+    static public JobSpec ice_read(com.zeroc.Ice.InputStream istr)
+    {
+        JobSpec v = new JobSpec();
+        v.ice_readMembers(istr);
+        return v;
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<JobSpec> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            ice_write(ostr, tag, v.get());
+        }
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, JobSpec v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            int pos = ostr.startSize();
+            ice_write(ostr, v);
+            ostr.endSize(pos);
+        }
+    }
+
+    static public java.util.Optional<JobSpec> ice_read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            istr.skip(4);
+            return java.util.Optional.of(JobSpec.ice_read(istr));
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+
+    private static final JobSpec _nullMarshalValue = new JobSpec();
+
+    /** @hidden */
+    public static final long serialVersionUID = 710748221643460648L;
+}
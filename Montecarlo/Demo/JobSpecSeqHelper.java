@@ -0,0 +1,80 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public final class JobSpecSeqHelper
+{
+    public static void write(com.zeroc.Ice.OutputStream ostr, JobSpec[] v)
+    {
+        if(v == null)
+        {
+            ostr.writeSize(0);
+        }
+        else
+        {
+            ostr.writeSize(v.length);
+            for(int i0 = 0; i0 < v.length; i0++)
+            {
+                JobSpec.ice_write(ostr, v[i0]);
+            }
+        }
+    }
+
+    public static JobSpec[] read(com.zeroc.Ice.InputStream istr)
+    {
+        final JobSpec[] v;
+        final int len0 = istr.readAndCheckSeqSize(18);
+        v = new JobSpec[len0];
+        for(int i0 = 0; i0 < len0; i0++)
+        {
+            v[i0] = JobSpec.ice_read(istr);
+        }
+        return v;
+    }
+
+    public static void write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<JobSpec[]> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            write(ostr, tag, v.get());
+        }
+    }
+
+    public static void write(com.zeroc.Ice.OutputStream ostr, int tag, JobSpec[] v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            int pos = ostr.startSize();
+            JobSpecSeqHelper.write(ostr, v);
+            ostr.endSize(pos);
+        }
+    }
+
+    public static java.util.Optional<JobSpec[]> read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            istr.skip(4);
+            JobSpec[] v;
+            v = JobSpecSeqHelper.read(istr);
+            return java.util.Optional.of(v);
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+}
@@ -17,7 +17,15 @@ package Demo;
 
 public interface Master extends com.zeroc.Ice.Object
 {
-    float calculatePi(int totalPoints, boolean isTest, com.zeroc.Ice.Current current);
+    java.util.concurrent.CompletionStage<java.lang.Double> calculatePiAsync(long totalPoints, boolean isTest, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode, com.zeroc.Ice.Current current);
+
+    java.util.concurrent.CompletionStage<PrecisionResult> calculatePiToPrecisionAsync(double targetError, double confidenceLevel, long maxPoints, com.zeroc.Ice.Current current);
+
+    java.util.concurrent.CompletionStage<double[]> calculatePiBatchAsync(JobSpec[] jobs, com.zeroc.Ice.Current current);
+
+    java.util.concurrent.CompletionStage<JobResult> runJobAsync(long totalPoints, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode, com.zeroc.Ice.Current current);
+
+    java.util.concurrent.CompletionStage<JobResult> refineAsync(long jobId, long extraPoints, com.zeroc.Ice.Current current);
 
     boolean addWorker(String name, WorkerPrx w, com.zeroc.Ice.Current current);
 
@@ -25,6 +33,10 @@ public interface Master extends com.zeroc.Ice.Object
 
     int getWorkerCount(com.zeroc.Ice.Current current);
 
+    JobProgress[] getActiveJobs(com.zeroc.Ice.Current current);
+
+    boolean cancelJob(long jobId, com.zeroc.Ice.Current current);
+
     /** @hidden */
     static final String[] _iceIds =
     {
@@ -60,16 +72,109 @@ public interface Master extends com.zeroc.Ice.Object
     {
         com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
         com.zeroc.Ice.InputStream istr = inS.startReadParams();
-        int iceP_totalPoints;
+        long iceP_totalPoints;
         boolean iceP_isTest;
-        iceP_totalPoints = istr.readInt();
+        java.util.OptionalLong iceP_seed;
+        java.util.Optional<SamplingMode> iceP_mode;
+        iceP_totalPoints = istr.readLong();
         iceP_isTest = istr.readBool();
+        iceP_seed = istr.readLong(1);
+        iceP_mode = SamplingMode.ice_read(istr, 2);
         inS.endReadParams();
-        float ret = obj.calculatePi(iceP_totalPoints, iceP_isTest, current);
-        com.zeroc.Ice.OutputStream ostr = inS.startWriteParams();
-        ostr.writeFloat(ret);
-        inS.endWriteParams(ostr);
-        return inS.setResult(ostr);
+        return inS.setResultFuture(obj.calculatePiAsync(iceP_totalPoints, iceP_isTest, iceP_seed, iceP_mode, current), (ostr, ret) ->
+            {
+                ostr.writeDouble(ret);
+            });
+    }
+
+    /**
+     * @hidden
+     * @param obj -
+     * @param inS -
+     * @param current -
+     * @return -
+    **/
+    static java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceD_calculatePiToPrecision(Master obj, final com.zeroc.IceInternal.Incoming inS, com.zeroc.Ice.Current current)
+    {
+        com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
+        com.zeroc.Ice.InputStream istr = inS.startReadParams();
+        double iceP_targetError;
+        double iceP_confidenceLevel;
+        long iceP_maxPoints;
+        iceP_targetError = istr.readDouble();
+        iceP_confidenceLevel = istr.readDouble();
+        iceP_maxPoints = istr.readLong();
+        inS.endReadParams();
+        return inS.setResultFuture(obj.calculatePiToPrecisionAsync(iceP_targetError, iceP_confidenceLevel, iceP_maxPoints, current), (ostr, ret) ->
+            {
+                PrecisionResult.ice_write(ostr, ret);
+            });
+    }
+
+    /**
+     * @hidden
+     * @param obj -
+     * @param inS -
+     * @param current -
+     * @return -
+    **/
+    static java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceD_calculatePiBatch(Master obj, final com.zeroc.IceInternal.Incoming inS, com.zeroc.Ice.Current current)
+    {
+        com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
+        com.zeroc.Ice.InputStream istr = inS.startReadParams();
+        JobSpec[] iceP_jobs;
+        iceP_jobs = JobSpecSeqHelper.read(istr);
+        inS.endReadParams();
+        return inS.setResultFuture(obj.calculatePiBatchAsync(iceP_jobs, current), (ostr, ret) ->
+            {
+                ostr.writeDoubleSeq(ret);
+            });
+    }
+
+    /**
+     * @hidden
+     * @param obj -
+     * @param inS -
+     * @param current -
+     * @return -
+    **/
+    static java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceD_runJob(Master obj, final com.zeroc.IceInternal.Incoming inS, com.zeroc.Ice.Current current)
+    {
+        com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
+        com.zeroc.Ice.InputStream istr = inS.startReadParams();
+        long iceP_totalPoints;
+        java.util.OptionalLong iceP_seed;
+        java.util.Optional<SamplingMode> iceP_mode;
+        iceP_totalPoints = istr.readLong();
+        iceP_seed = istr.readLong(1);
+        iceP_mode = SamplingMode.ice_read(istr, 2);
+        inS.endReadParams();
+        return inS.setResultFuture(obj.runJobAsync(iceP_totalPoints, iceP_seed, iceP_mode, current), (ostr, ret) ->
+            {
+                JobResult.ice_write(ostr, ret);
+            });
+    }
+
+    /**
+     * @hidden
+     * @param obj -
+     * @param inS -
+     * @param current -
+     * @return -
+    **/
+    static java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceD_refine(Master obj, final com.zeroc.IceInternal.Incoming inS, com.zeroc.Ice.Current current)
+    {
+        com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
+        com.zeroc.Ice.InputStream istr = inS.startReadParams();
+        long iceP_jobId;
+        long iceP_extraPoints;
+        iceP_jobId = istr.readLong();
+        iceP_extraPoints = istr.readLong();
+        inS.endReadParams();
+        return inS.setResultFuture(obj.refineAsync(iceP_jobId, iceP_extraPoints, current), (ostr, ret) ->
+            {
+                JobResult.ice_write(ostr, ret);
+            });
     }
 
     /**
@@ -134,17 +239,62 @@ public interface Master extends com.zeroc.Ice.Object
         return inS.setResult(ostr);
     }
 
+    /**
+     * @hidden
+     * @param obj -
+     * @param inS -
+     * @param current -
+     * @return -
+    **/
+    static java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceD_getActiveJobs(Master obj, final com.zeroc.IceInternal.Incoming inS, com.zeroc.Ice.Current current)
+    {
+        com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
+        inS.readEmptyParams();
+        JobProgress[] ret = obj.getActiveJobs(current);
+        com.zeroc.Ice.OutputStream ostr = inS.startWriteParams();
+        JobProgressSeqHelper.write(ostr, ret);
+        inS.endWriteParams(ostr);
+        return inS.setResult(ostr);
+    }
+
+    /**
+     * @hidden
+     * @param obj -
+     * @param inS -
+     * @param current -
+     * @return -
+    **/
+    static java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceD_cancelJob(Master obj, final com.zeroc.IceInternal.Incoming inS, com.zeroc.Ice.Current current)
+    {
+        com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
+        com.zeroc.Ice.InputStream istr = inS.startReadParams();
+        long iceP_jobId;
+        iceP_jobId = istr.readLong();
+        inS.endReadParams();
+        boolean ret = obj.cancelJob(iceP_jobId, current);
+        com.zeroc.Ice.OutputStream ostr = inS.startWriteParams();
+        ostr.writeBool(ret);
+        inS.endWriteParams(ostr);
+        return inS.setResult(ostr);
+    }
+
     /** @hidden */
     final static String[] _iceOps =
     {
         "addWorker",
         "calculatePi",
+        "calculatePiBatch",
+        "calculatePiToPrecision",
+        "cancelJob",
+        "getActiveJobs",
         "getWorkerCount",
         "ice_id",
         "ice_ids",
         "ice_isA",
         "ice_ping",
-        "removeWorker"
+        "refine",
+        "removeWorker",
+        "runJob"
     };
 
     /** @hidden */
@@ -170,28 +320,52 @@ public interface Master extends com.zeroc.Ice.Object
             }
             case 2:
             {
-                return _iceD_getWorkerCount(this, in, current);
+                return _iceD_calculatePiBatch(this, in, current);
             }
             case 3:
             {
-                return com.zeroc.Ice.Object._iceD_ice_id(this, in, current);
+                return _iceD_calculatePiToPrecision(this, in, current);
             }
             case 4:
             {
-                return com.zeroc.Ice.Object._iceD_ice_ids(this, in, current);
+                return _iceD_cancelJob(this, in, current);
             }
             case 5:
             {
-                return com.zeroc.Ice.Object._iceD_ice_isA(this, in, current);
+                return _iceD_getActiveJobs(this, in, current);
             }
             case 6:
             {
-                return com.zeroc.Ice.Object._iceD_ice_ping(this, in, current);
+                return _iceD_getWorkerCount(this, in, current);
             }
             case 7:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_id(this, in, current);
+            }
+            case 8:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_ids(this, in, current);
+            }
+            case 9:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_isA(this, in, current);
+            }
+            case 10:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_ping(this, in, current);
+            }
+            case 11:
+            {
+                return _iceD_refine(this, in, current);
+            }
+            case 12:
             {
                 return _iceD_removeWorker(this, in, current);
             }
+            case 13:
+            {
+                return _iceD_runJob(this, in, current);
+            }
         }
 
         assert(false);
@@ -17,43 +17,217 @@ package Demo;
 
 public interface MasterPrx extends com.zeroc.Ice.ObjectPrx
 {
-    default float calculatePi(int totalPoints, boolean isTest)
+    default double calculatePi(long totalPoints, boolean isTest, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode)
     {
-        return calculatePi(totalPoints, isTest, com.zeroc.Ice.ObjectPrx.noExplicitContext);
+        return calculatePi(totalPoints, isTest, seed, mode, com.zeroc.Ice.ObjectPrx.noExplicitContext);
     }
 
-    default float calculatePi(int totalPoints, boolean isTest, java.util.Map<String, String> context)
+    default double calculatePi(long totalPoints, boolean isTest, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode, java.util.Map<String, String> context)
     {
-        return _iceI_calculatePiAsync(totalPoints, isTest, context, true).waitForResponse();
+        return _iceI_calculatePiAsync(totalPoints, isTest, seed, mode, context, true).waitForResponse();
     }
 
-    default java.util.concurrent.CompletableFuture<java.lang.Float> calculatePiAsync(int totalPoints, boolean isTest)
+    default java.util.concurrent.CompletableFuture<java.lang.Double> calculatePiAsync(long totalPoints, boolean isTest, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode)
     {
-        return _iceI_calculatePiAsync(totalPoints, isTest, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+        return _iceI_calculatePiAsync(totalPoints, isTest, seed, mode, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
     }
 
-    default java.util.concurrent.CompletableFuture<java.lang.Float> calculatePiAsync(int totalPoints, boolean isTest, java.util.Map<String, String> context)
+    default java.util.concurrent.CompletableFuture<java.lang.Double> calculatePiAsync(long totalPoints, boolean isTest, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode, java.util.Map<String, String> context)
     {
-        return _iceI_calculatePiAsync(totalPoints, isTest, context, false);
+        return _iceI_calculatePiAsync(totalPoints, isTest, seed, mode, context, false);
     }
 
     /**
      * @hidden
      * @param iceP_totalPoints -
      * @param iceP_isTest -
+     * @param iceP_seed -
+     * @param iceP_mode -
      * @param context -
      * @param sync -
      * @return -
      **/
-    default com.zeroc.IceInternal.OutgoingAsync<java.lang.Float> _iceI_calculatePiAsync(int iceP_totalPoints, boolean iceP_isTest, java.util.Map<String, String> context, boolean sync)
+    default com.zeroc.IceInternal.OutgoingAsync<java.lang.Double> _iceI_calculatePiAsync(long iceP_totalPoints, boolean iceP_isTest, java.util.OptionalLong iceP_seed, java.util.Optional<SamplingMode> iceP_mode, java.util.Map<String, String> context, boolean sync)
     {
-        com.zeroc.IceInternal.OutgoingAsync<java.lang.Float> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "calculatePi", null, sync, null);
+        com.zeroc.IceInternal.OutgoingAsync<java.lang.Double> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "calculatePi", null, sync, null);
         f.invoke(true, context, null, ostr -> {
-                     ostr.writeInt(iceP_totalPoints);
+                     ostr.writeLong(iceP_totalPoints);
                      ostr.writeBool(iceP_isTest);
+                     ostr.writeLong(1, iceP_seed);
+                     SamplingMode.ice_write(ostr, 2, iceP_mode);
                  }, istr -> {
-                     float ret;
-                     ret = istr.readFloat();
+                     double ret;
+                     ret = istr.readDouble();
+                     return ret;
+                 });
+        return f;
+    }
+
+    default PrecisionResult calculatePiToPrecision(double targetError, double confidenceLevel, long maxPoints)
+    {
+        return calculatePiToPrecision(targetError, confidenceLevel, maxPoints, com.zeroc.Ice.ObjectPrx.noExplicitContext);
+    }
+
+    default PrecisionResult calculatePiToPrecision(double targetError, double confidenceLevel, long maxPoints, java.util.Map<String, String> context)
+    {
+        return _iceI_calculatePiToPrecisionAsync(targetError, confidenceLevel, maxPoints, context, true).waitForResponse();
+    }
+
+    default java.util.concurrent.CompletableFuture<PrecisionResult> calculatePiToPrecisionAsync(double targetError, double confidenceLevel, long maxPoints)
+    {
+        return _iceI_calculatePiToPrecisionAsync(targetError, confidenceLevel, maxPoints, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+    }
+
+    default java.util.concurrent.CompletableFuture<PrecisionResult> calculatePiToPrecisionAsync(double targetError, double confidenceLevel, long maxPoints, java.util.Map<String, String> context)
+    {
+        return _iceI_calculatePiToPrecisionAsync(targetError, confidenceLevel, maxPoints, context, false);
+    }
+
+    /**
+     * @hidden
+     * @param iceP_targetError -
+     * @param iceP_confidenceLevel -
+     * @param iceP_maxPoints -
+     * @param context -
+     * @param sync -
+     * @return -
+     **/
+    default com.zeroc.IceInternal.OutgoingAsync<PrecisionResult> _iceI_calculatePiToPrecisionAsync(double iceP_targetError, double iceP_confidenceLevel, long iceP_maxPoints, java.util.Map<String, String> context, boolean sync)
+    {
+        com.zeroc.IceInternal.OutgoingAsync<PrecisionResult> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "calculatePiToPrecision", null, sync, null);
+        f.invoke(true, context, null, ostr -> {
+                     ostr.writeDouble(iceP_targetError);
+                     ostr.writeDouble(iceP_confidenceLevel);
+                     ostr.writeLong(iceP_maxPoints);
+                 }, istr -> {
+                     PrecisionResult ret;
+                     ret = PrecisionResult.ice_read(istr);
+                     return ret;
+                 });
+        return f;
+    }
+
+    default double[] calculatePiBatch(JobSpec[] jobs)
+    {
+        return calculatePiBatch(jobs, com.zeroc.Ice.ObjectPrx.noExplicitContext);
+    }
+
+    default double[] calculatePiBatch(JobSpec[] jobs, java.util.Map<String, String> context)
+    {
+        return _iceI_calculatePiBatchAsync(jobs, context, true).waitForResponse();
+    }
+
+    default java.util.concurrent.CompletableFuture<double[]> calculatePiBatchAsync(JobSpec[] jobs)
+    {
+        return _iceI_calculatePiBatchAsync(jobs, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+    }
+
+    default java.util.concurrent.CompletableFuture<double[]> calculatePiBatchAsync(JobSpec[] jobs, java.util.Map<String, String> context)
+    {
+        return _iceI_calculatePiBatchAsync(jobs, context, false);
+    }
+
+    /**
+     * @hidden
+     * @param iceP_jobs -
+     * @param context -
+     * @param sync -
+     * @return -
+     **/
+    default com.zeroc.IceInternal.OutgoingAsync<double[]> _iceI_calculatePiBatchAsync(JobSpec[] iceP_jobs, java.util.Map<String, String> context, boolean sync)
+    {
+        com.zeroc.IceInternal.OutgoingAsync<double[]> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "calculatePiBatch", null, sync, null);
+        f.invoke(true, context, null, ostr -> {
+                     JobSpecSeqHelper.write(ostr, iceP_jobs);
+                 }, istr -> {
+                     double[] ret;
+                     ret = istr.readDoubleSeq();
+                     return ret;
+                 });
+        return f;
+    }
+
+    default JobResult runJob(long totalPoints, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode)
+    {
+        return runJob(totalPoints, seed, mode, com.zeroc.Ice.ObjectPrx.noExplicitContext);
+    }
+
+    default JobResult runJob(long totalPoints, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode, java.util.Map<String, String> context)
+    {
+        return _iceI_runJobAsync(totalPoints, seed, mode, context, true).waitForResponse();
+    }
+
+    default java.util.concurrent.CompletableFuture<JobResult> runJobAsync(long totalPoints, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode)
+    {
+        return _iceI_runJobAsync(totalPoints, seed, mode, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+    }
+
+    default java.util.concurrent.CompletableFuture<JobResult> runJobAsync(long totalPoints, java.util.OptionalLong seed, java.util.Optional<SamplingMode> mode, java.util.Map<String, String> context)
+    {
+        return _iceI_runJobAsync(totalPoints, seed, mode, context, false);
+    }
+
+    /**
+     * @hidden
+     * @param iceP_totalPoints -
+     * @param iceP_seed -
+     * @param iceP_mode -
+     * @param context -
+     * @param sync -
+     * @return -
+     **/
+    default com.zeroc.IceInternal.OutgoingAsync<JobResult> _iceI_runJobAsync(long iceP_totalPoints, java.util.OptionalLong iceP_seed, java.util.Optional<SamplingMode> iceP_mode, java.util.Map<String, String> context, boolean sync)
+    {
+        com.zeroc.IceInternal.OutgoingAsync<JobResult> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "runJob", null, sync, null);
+        f.invoke(true, context, null, ostr -> {
+                     ostr.writeLong(iceP_totalPoints);
+                     ostr.writeLong(1, iceP_seed);
+                     SamplingMode.ice_write(ostr, 2, iceP_mode);
+                 }, istr -> {
+                     JobResult ret;
+                     ret = JobResult.ice_read(istr);
+                     return ret;
+                 });
+        return f;
+    }
+
+    default JobResult refine(long jobId, long extraPoints)
+    {
+        return refine(jobId, extraPoints, com.zeroc.Ice.ObjectPrx.noExplicitContext);
+    }
+
+    default JobResult refine(long jobId, long extraPoints, java.util.Map<String, String> context)
+    {
+        return _iceI_refineAsync(jobId, extraPoints, context, true).waitForResponse();
+    }
+
+    default java.util.concurrent.CompletableFuture<JobResult> refineAsync(long jobId, long extraPoints)
+    {
+        return _iceI_refineAsync(jobId, extraPoints, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+    }
+
+    default java.util.concurrent.CompletableFuture<JobResult> refineAsync(long jobId, long extraPoints, java.util.Map<String, String> context)
+    {
+        return _iceI_refineAsync(jobId, extraPoints, context, false);
+    }
+
+    /**
+     * @hidden
+     * @param iceP_jobId -
+     * @param iceP_extraPoints -
+     * @param context -
+     * @param sync -
+     * @return -
+     **/
+    default com.zeroc.IceInternal.OutgoingAsync<JobResult> _iceI_refineAsync(long iceP_jobId, long iceP_extraPoints, java.util.Map<String, String> context, boolean sync)
+    {
+        com.zeroc.IceInternal.OutgoingAsync<JobResult> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "refine", null, sync, null);
+        f.invoke(true, context, null, ostr -> {
+                     ostr.writeLong(iceP_jobId);
+                     ostr.writeLong(iceP_extraPoints);
+                 }, istr -> {
+                     JobResult ret;
+                     ret = JobResult.ice_read(istr);
                      return ret;
                  });
         return f;
@@ -178,6 +352,83 @@ public interface MasterPrx extends com.zeroc.Ice.ObjectPrx
         return f;
     }
 
+    default JobProgress[] getActiveJobs()
+    {
+        return getActiveJobs(com.zeroc.Ice.ObjectPrx.noExplicitContext);
+    }
+
+    default JobProgress[] getActiveJobs(java.util.Map<String, String> context)
+    {
+        return _iceI_getActiveJobsAsync(context, true).waitForResponse();
+    }
+
+    default java.util.concurrent.CompletableFuture<JobProgress[]> getActiveJobsAsync()
+    {
+        return _iceI_getActiveJobsAsync(com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+    }
+
+    default java.util.concurrent.CompletableFuture<JobProgress[]> getActiveJobsAsync(java.util.Map<String, String> context)
+    {
+        return _iceI_getActiveJobsAsync(context, false);
+    }
+
+    /**
+     * @hidden
+     * @param context -
+     * @param sync -
+     * @return -
+     **/
+    default com.zeroc.IceInternal.OutgoingAsync<JobProgress[]> _iceI_getActiveJobsAsync(java.util.Map<String, String> context, boolean sync)
+    {
+        com.zeroc.IceInternal.OutgoingAsync<JobProgress[]> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "getActiveJobs", null, sync, null);
+        f.invoke(true, context, null, null, istr -> {
+                     JobProgress[] ret;
+                     ret = JobProgressSeqHelper.read(istr);
+                     return ret;
+                 });
+        return f;
+    }
+
+    default boolean cancelJob(long jobId)
+    {
+        return cancelJob(jobId, com.zeroc.Ice.ObjectPrx.noExplicitContext);
+    }
+
+    default boolean cancelJob(long jobId, java.util.Map<String, String> context)
+    {
+        return _iceI_cancelJobAsync(jobId, context, true).waitForResponse();
+    }
+
+    default java.util.concurrent.CompletableFuture<java.lang.Boolean> cancelJobAsync(long jobId)
+    {
+        return _iceI_cancelJobAsync(jobId, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+    }
+
+    default java.util.concurrent.CompletableFuture<java.lang.Boolean> cancelJobAsync(long jobId, java.util.Map<String, String> context)
+    {
+        return _iceI_cancelJobAsync(jobId, context, false);
+    }
+
+    /**
+     * @hidden
+     * @param iceP_jobId -
+     * @param context -
+     * @param sync -
+     * @return -
+     **/
+    default com.zeroc.IceInternal.OutgoingAsync<java.lang.Boolean> _iceI_cancelJobAsync(long iceP_jobId, java.util.Map<String, String> context, boolean sync)
+    {
+        com.zeroc.IceInternal.OutgoingAsync<java.lang.Boolean> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "cancelJob", null, sync, null);
+        f.invoke(true, context, null, ostr -> {
+                     ostr.writeLong(iceP_jobId);
+                 }, istr -> {
+                     boolean ret;
+                     ret = istr.readBool();
+                     return ret;
+                 });
+        return f;
+    }
+
     /**
      * Contacts the remote server to verify that the object implements this type.
      * Raises a local exception if a communication error occurs.
@@ -0,0 +1,157 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public class Metric implements java.lang.Cloneable,
+                               java.io.Serializable
+{
+    public String name;
+
+    public double value;
+
+    public Metric()
+    {
+        this.name = "";
+    }
+
+    public Metric(String name, double value)
+    {
+        this.name = name;
+        this.value = value;
+    }
+
+    public boolean equals(java.lang.Object rhs)
+    {
+        if(this == rhs)
+        {
+            return true;
+        }
+        Metric r = null;
+        if(rhs instanceof Metric)
+        {
+            r = (Metric)rhs;
+        }
+
+        if(r != null)
+        {
+            if(this.name != r.name)
+            {
+                if(this.name == null || r.name == null || !this.name.equals(r.name))
+                {
+                    return false;
+                }
+            }
+            if(this.value != r.value)
+            {
+                return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    public int hashCode()
+    {
+        int h_ = 5381;
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, "::Demo::Metric");
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, name);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, value);
+        return h_;
+    }
+
+    public Metric clone()
+    {
+        Metric c = null;
+        try
+        {
+            c = (Metric)super.clone();
+        }
+        catch(CloneNotSupportedException ex)
+        {
+            assert false; // impossible
+        }
+        return c;
+    }
+
+    public void ice_writeMembers(com.zeroc.Ice.OutputStream ostr)
+    {
+        ostr.writeString(this.name);
+        ostr.writeDouble(this.value);
+    }
+
+    public void ice_readMembers(com.zeroc.Ice.InputStream istr)
+    {
+        this.name = istr.readString();
+        this.value = istr.readDouble();
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, Metric v)
+    {
+        if(v == null)
+        {
+            _nullMarshalValue.ice_writeMembers(ostr);
+        }
+        else
+        {
+            v.ice_writeMembers(ostr);
+        }
+    }
+
+    static public Metric ice_read(com.zeroc.Ice.InputStream istr)
+    {
+        Metric v = new Metric();
+        v.ice_readMembers(istr);
+        return v;
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<Metric> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            ice_write(ostr, tag, v.get());
+        }
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, Metric v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            int pos = ostr.startSize();
+            ice_write(ostr, v);
+            ostr.endSize(pos);
+        }
+    }
+
+    static public java.util.Optional<Metric> ice_read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            istr.skip(4);
+            return java.util.Optional.of(Metric.ice_read(istr));
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+
+    private static final Metric _nullMarshalValue = new Metric();
+
+    /** @hidden */
+    public static final long serialVersionUID = 4140637002116893858L;
+}
@@ -0,0 +1,162 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public class PrecisionResult implements java.lang.Cloneable,
+                                        java.io.Serializable
+{
+    public double estimate;
+
+    public double confidenceHalfWidth;
+
+    public long pointsUsed;
+
+    public PrecisionResult()
+    {
+    }
+
+    public PrecisionResult(double estimate, double confidenceHalfWidth, long pointsUsed)
+    {
+        this.estimate = estimate;
+        this.confidenceHalfWidth = confidenceHalfWidth;
+        this.pointsUsed = pointsUsed;
+    }
+
+    public boolean equals(java.lang.Object rhs)
+    {
+        if(this == rhs)
+        {
+            return true;
+        }
+        PrecisionResult r = null;
+        if(rhs instanceof PrecisionResult)
+        {
+            r = (PrecisionResult)rhs;
+        }
+
+        if(r != null)
+        {
+            if(this.estimate != r.estimate)
+            {
+                return false;
+            }
+            if(this.confidenceHalfWidth != r.confidenceHalfWidth)
+            {
+                return false;
+            }
+            if(this.pointsUsed != r.pointsUsed)
+            {
+                return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    public int hashCode()
+    {
+        int h_ = 5381;
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, "::Demo::PrecisionResult");
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, estimate);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, confidenceHalfWidth);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, pointsUsed);
+        return h_;
+    }
+
+    public PrecisionResult clone()
+    {
+        PrecisionResult c = null;
+        try
+        {
+            c = (PrecisionResult)super.clone();
+        }
+        catch(CloneNotSupportedException ex)
+        {
+            assert false; // impossible
+        }
+        return c;
+    }
+
+    public void ice_writeMembers(com.zeroc.Ice.OutputStream ostr)
+    {
+        ostr.writeDouble(this.estimate);
+        ostr.writeDouble(this.confidenceHalfWidth);
+        ostr.writeLong(this.pointsUsed);
+    }
+
+    public void ice_readMembers(com.zeroc.Ice.InputStream istr)
+    {
+        this.estimate = istr.readDouble();
+        this.confidenceHalfWidth = istr.readDouble();
+        this.pointsUsed = istr.readLong();
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, PrecisionResult v)
+    {
+        if(v == null)
+        {
+            _nullMarshalValue.ice_writeMembers(ostr);
+        }
+        else
+        {
+            v.ice_writeMembers(ostr);
+        }
+    }
+
+    static public PrecisionResult ice_read(com.zeroc.Ice.InputStream istr)
+    {
+        PrecisionResult v = new PrecisionResult();
+        v.ice_readMembers(istr);
+        return v;
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<PrecisionResult> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            ice_write(ostr, tag, v.get());
+        }
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, PrecisionResult v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            ostr.writeSize(24);
+            ice_write(ostr, v);
+        }
+    }
+
+    static public java.util.Optional<PrecisionResult> ice_read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.VSize))
+        {
+            istr.skipSize();
+            return java.util.Optional.of(PrecisionResult.ice_read(istr));
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+
+    private static final PrecisionResult _nullMarshalValue = new PrecisionResult();
+
+    /** @hidden */
+    public static final long serialVersionUID = 4775135492206546521L;
+}
@@ -0,0 +1,121 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public interface ProgressListener extends com.zeroc.Ice.Object
+{
+    boolean reportProgress(long jobId, long chunkId, long pointsThrown, long pointsInside, com.zeroc.Ice.Current current);
+
+    /** @hidden */
+    static final String[] _iceIds =
+    {
+        "::Demo::ProgressListener",
+        "::Ice::Object"
+    };
+
+    @Override
+    default String[] ice_ids(com.zeroc.Ice.Current current)
+    {
+        return _iceIds;
+    }
+
+    @Override
+    default String ice_id(com.zeroc.Ice.Current current)
+    {
+        return ice_staticId();
+    }
+
+    static String ice_staticId()
+    {
+        return "::Demo::ProgressListener";
+    }
+
+    /**
+     * @hidden
+     * @param obj -
+     * @param inS -
+     * @param current -
+     * @return -
+    **/
+    static java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceD_reportProgress(ProgressListener obj, final com.zeroc.IceInternal.Incoming inS, com.zeroc.Ice.Current current)
+    {
+        com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
+        com.zeroc.Ice.InputStream istr = inS.startReadParams();
+        long iceP_jobId;
+        long iceP_chunkId;
+        long iceP_pointsThrown;
+        long iceP_pointsInside;
+        iceP_jobId = istr.readLong();
+        iceP_chunkId = istr.readLong();
+        iceP_pointsThrown = istr.readLong();
+        iceP_pointsInside = istr.readLong();
+        inS.endReadParams();
+        boolean ret = obj.reportProgress(iceP_jobId, iceP_chunkId, iceP_pointsThrown, iceP_pointsInside, current);
+        com.zeroc.Ice.OutputStream ostr = inS.startWriteParams();
+        ostr.writeBool(ret);
+        inS.endWriteParams(ostr);
+        return inS.setResult(ostr);
+    }
+
+    /** @hidden */
+    final static String[] _iceOps =
+    {
+        "ice_id",
+        "ice_ids",
+        "ice_isA",
+        "ice_ping",
+        "reportProgress"
+    };
+
+    /** @hidden */
+    @Override
+    default java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceDispatch(com.zeroc.IceInternal.Incoming in, com.zeroc.Ice.Current current)
+        throws com.zeroc.Ice.UserException
+    {
+        int pos = java.util.Arrays.binarySearch(_iceOps, current.operation);
+        if(pos < 0)
+        {
+            throw new com.zeroc.Ice.OperationNotExistException(current.id, current.facet, current.operation);
+        }
+
+        switch(pos)
+        {
+            case 0:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_id(this, in, current);
+            }
+            case 1:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_ids(this, in, current);
+            }
+            case 2:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_isA(this, in, current);
+            }
+            case 3:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_ping(this, in, current);
+            }
+            case 4:
+            {
+                return _iceD_reportProgress(this, in, current);
+            }
+        }
+
+        assert(false);
+        throw new com.zeroc.Ice.OperationNotExistException(current.id, current.facet, current.operation);
+    }
+}
@@ -0,0 +1,119 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public enum SamplingMode implements java.io.Serializable
+{
+    Uniform(0),
+    Sobol(1),
+    Halton(2),
+    Stratified(3),
+    Antithetic(4),
+    Grid(5);
+
+    public int value()
+    {
+        return _value;
+    }
+
+    public static SamplingMode valueOf(int v)
+    {
+        switch(v)
+        {
+        case 0:
+            return Uniform;
+        case 1:
+            return Sobol;
+        case 2:
+            return Halton;
+        case 3:
+            return Stratified;
+        case 4:
+            return Antithetic;
+        case 5:
+            return Grid;
+        }
+        return null;
+    }
+
+    private SamplingMode(int v)
+    {
+        _value = v;
+    }
+
+    public void ice_write(com.zeroc.Ice.OutputStream ostr)
+    {
+        ostr.writeEnum(_value, 5);
+    }
+
+    public static void ice_write(com.zeroc.Ice.OutputStream ostr, SamplingMode v)
+    {
+        if(v == null)
+        {
+            ostr.writeEnum(Demo.SamplingMode.Uniform.value(), 5);
+        }
+        else
+        {
+            ostr.writeEnum(v.value(), 5);
+        }
+    }
+
+    public static SamplingMode ice_read(com.zeroc.Ice.InputStream istr)
+    {
+        int v = istr.readEnum(5);
+        return validate(v);
+    }
+
+    public static void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<SamplingMode> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            ice_write(ostr, tag, v.get());
+        }
+    }
+
+    public static void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, SamplingMode v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.Size))
+        {
+            ice_write(ostr, v);
+        }
+    }
+
+    public static java.util.Optional<SamplingMode> ice_read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.Size))
+        {
+            return java.util.Optional.of(ice_read(istr));
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+
+    private static SamplingMode validate(int v)
+    {
+        final SamplingMode e = valueOf(v);
+        if(e == null)
+        {
+            throw new com.zeroc.Ice.MarshalException("enumerator value " + v + " is out of range");
+        }
+        return e;
+    }
+
+    private final int _value;
+}
@@ -0,0 +1,227 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public class WorkUnit implements java.lang.Cloneable,
+                                 java.io.Serializable
+{
+    public long jobId;
+
+    public long chunkId;
+
+    public long numPoints;
+
+    public long[] stream;
+
+    public SamplingMode mode;
+
+    public long firstIndex;
+
+    public long scramble;
+
+    public long resolution;
+
+    public boolean reproducible;
+
+    public WorkUnit()
+    {
+        this.mode = SamplingMode.Uniform;
+    }
+
+    public WorkUnit(long jobId, long chunkId, long numPoints, long[] stream, SamplingMode mode, long firstIndex, long scramble, long resolution, boolean reproducible)
+    {
+        this.jobId = jobId;
+        this.chunkId = chunkId;
+        this.numPoints = numPoints;
+        this.stream = stream;
+        this.mode = mode;
+        this.firstIndex = firstIndex;
+        this.scramble = scramble;
+        this.resolution = resolution;
+        this.reproducible = reproducible;
+    }
+
+    public boolean equals(java.lang.Object rhs)
+    {
+        if(this == rhs)
+        {
+            return true;
+        }
+        WorkUnit r = null;
+        if(rhs instanceof WorkUnit)
+        {
+            r = (WorkUnit)rhs;
+        }
+
+        if(r != null)
+        {
+            if(this.jobId != r.jobId)
+            {
+                return false;
+            }
+            if(this.chunkId != r.chunkId)
+            {
+                return false;
+            }
+            if(this.numPoints != r.numPoints)
+            {
+                return false;
+            }
+            if(!java.util.Arrays.equals(this.stream, r.stream))
+            {
+                return false;
+            }
+            if(this.mode != r.mode)
+            {
+                if(this.mode == null || r.mode == null || !this.mode.equals(r.mode))
+                {
+                    return false;
+                }
+            }
+            if(this.firstIndex != r.firstIndex)
+            {
+                return false;
+            }
+            if(this.scramble != r.scramble)
+            {
+                return false;
+            }
+            if(this.resolution != r.resolution)
+            {
+                return false;
+            }
+            if(this.reproducible != r.reproducible)
+            {
+                return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    public int hashCode()
+    {
+        int h_ = 5381;
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, "::Demo::WorkUnit");
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, jobId);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, chunkId);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, numPoints);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, stream);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, mode);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, firstIndex);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, scramble);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, resolution);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, reproducible);
+        return h_;
+    }
+
+    public WorkUnit clone()
+    {
+        WorkUnit c = null;
+        try
+        {
+            c = (WorkUnit)super.clone();
+        }
+        catch(CloneNotSupportedException ex)
+        {
+            assert false; // impossible
+        }
+        return c;
+    }
+
+    public void ice_writeMembers(com.zeroc.Ice.OutputStream ostr)
+    {
+        ostr.writeLong(this.jobId);
+        ostr.writeLong(this.chunkId);
+        ostr.writeLong(this.numPoints);
+        ostr.writeLongSeq(this.stream);
+        SamplingMode.ice_write(ostr, this.mode);
+        ostr.writeLong(this.firstIndex);
+        ostr.writeLong(this.scramble);
+        ostr.writeLong(this.resolution);
+        ostr.writeBool(this.reproducible);
+    }
+
+    public void ice_readMembers(com.zeroc.Ice.InputStream istr)
+    {
+        this.jobId = istr.readLong();
+        this.chunkId = istr.readLong();
+        this.numPoints = istr.readLong();
+        this.stream = istr.readLongSeq();
+        this.mode = SamplingMode.ice_read(istr);
+        this.firstIndex = istr.readLong();
+        this.scramble = istr.readLong();
+        this.resolution = istr.readLong();
+        this.reproducible = istr.readBool();
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, WorkUnit v)
+    {
+        if(v == null)
+        {
+            _nullMarshalValue.ice_writeMembers(ostr);
+        }
+        else
+        {
+            v.ice_writeMembers(ostr);
+        }
+    }
+
+    static public WorkUnit ice_read(com.zeroc.Ice.InputStream istr)
+    {
+        WorkUnit v = new WorkUnit();
+        v.ice_readMembers(istr);
+        return v;
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<WorkUnit> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            ice_write(ostr, tag, v.get());
+        }
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, WorkUnit v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            int pos = ostr.startSize();
+            ice_write(ostr, v);
+            ostr.endSize(pos);
+        }
+    }
+
+    static public java.util.Optional<WorkUnit> ice_read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            istr.skip(4);
+            return java.util.Optional.of(WorkUnit.ice_read(istr));
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+
+    private static final WorkUnit _nullMarshalValue = new WorkUnit();
+
+    /** @hidden */
+    public static final long serialVersionUID = 6365753310046672135L;
+}
@@ -0,0 +1,80 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public final class WorkUnitSeqHelper
+{
+    public static void write(com.zeroc.Ice.OutputStream ostr, WorkUnit[] v)
+    {
+        if(v == null)
+        {
+            ostr.writeSize(0);
+        }
+        else
+        {
+            ostr.writeSize(v.length);
+            for(int i0 = 0; i0 < v.length; i0++)
+            {
+                WorkUnit.ice_write(ostr, v[i0]);
+            }
+        }
+    }
+
+    public static WorkUnit[] read(com.zeroc.Ice.InputStream istr)
+    {
+        final WorkUnit[] v;
+        final int len0 = istr.readAndCheckSeqSize(51);
+        v = new WorkUnit[len0];
+        for(int i0 = 0; i0 < len0; i0++)
+        {
+            v[i0] = WorkUnit.ice_read(istr);
+        }
+        return v;
+    }
+
+    public static void write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<WorkUnit[]> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            write(ostr, tag, v.get());
+        }
+    }
+
+    public static void write(com.zeroc.Ice.OutputStream ostr, int tag, WorkUnit[] v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            int pos = ostr.startSize();
+            WorkUnitSeqHelper.write(ostr, v);
+            ostr.endSize(pos);
+        }
+    }
+
+    public static java.util.Optional<WorkUnit[]> read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            istr.skip(4);
+            WorkUnit[] v;
+            v = WorkUnitSeqHelper.read(istr);
+            return java.util.Optional.of(v);
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+}
@@ -17,12 +17,16 @@ package Demo;
 
 public interface Worker extends com.zeroc.Ice.Object
 {
-    int countPointsInCircle(int numPoints, com.zeroc.Ice.Current current);
+    java.util.concurrent.CompletionStage<java.lang.Long> countPointsInCircleAsync(WorkUnit unit, ProgressListenerPrx listener, com.zeroc.Ice.Current current);
+
+    java.util.concurrent.CompletionStage<long[]> countPointsInCircleBatchAsync(WorkUnit[] units, ProgressListenerPrx listener, com.zeroc.Ice.Current current);
 
     void ping(com.zeroc.Ice.Current current);
 
     String getName(com.zeroc.Ice.Current current);
 
+    WorkerInfo getInfo(com.zeroc.Ice.Current current);
+
     /** @hidden */
     static final String[] _iceIds =
     {
@@ -58,14 +62,37 @@ public interface Worker extends com.zeroc.Ice.Object
     {
         com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
         com.zeroc.Ice.InputStream istr = inS.startReadParams();
-        int iceP_numPoints;
-        iceP_numPoints = istr.readInt();
+        WorkUnit iceP_unit;
+        ProgressListenerPrx iceP_listener;
+        iceP_unit = WorkUnit.ice_read(istr);
+        iceP_listener = ProgressListenerPrx.uncheckedCast(istr.readProxy());
         inS.endReadParams();
-        int ret = obj.countPointsInCircle(iceP_numPoints, current);
-        com.zeroc.Ice.OutputStream ostr = inS.startWriteParams();
-        ostr.writeInt(ret);
-        inS.endWriteParams(ostr);
-        return inS.setResult(ostr);
+        return inS.setResultFuture(obj.countPointsInCircleAsync(iceP_unit, iceP_listener, current), (ostr, ret) ->
+            {
+                ostr.writeLong(ret);
+            });
+    }
+
+    /**
+     * @hidden
+     * @param obj -
+     * @param inS -
+     * @param current -
+     * @return -
+    **/
+    static java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceD_countPointsInCircleBatch(Worker obj, final com.zeroc.IceInternal.Incoming inS, com.zeroc.Ice.Current current)
+    {
+        com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
+        com.zeroc.Ice.InputStream istr = inS.startReadParams();
+        WorkUnit[] iceP_units;
+        ProgressListenerPrx iceP_listener;
+        iceP_units = WorkUnitSeqHelper.read(istr);
+        iceP_listener = ProgressListenerPrx.uncheckedCast(istr.readProxy());
+        inS.endReadParams();
+        return inS.setResultFuture(obj.countPointsInCircleBatchAsync(iceP_units, iceP_listener, current), (ostr, ret) ->
+            {
+                ostr.writeLongSeq(ret);
+            });
     }
 
     /**
@@ -101,10 +128,30 @@ public interface Worker extends com.zeroc.Ice.Object
         return inS.setResult(ostr);
     }
 
+    /**
+     * @hidden
+     * @param obj -
+     * @param inS -
+     * @param current -
+     * @return -
+    **/
+    static java.util.concurrent.CompletionStage<com.zeroc.Ice.OutputStream> _iceD_getInfo(Worker obj, final com.zeroc.IceInternal.Incoming inS, com.zeroc.Ice.Current current)
+    {
+        com.zeroc.Ice.Object._iceCheckMode(null, current.mode);
+        inS.readEmptyParams();
+        WorkerInfo ret = obj.getInfo(current);
+        com.zeroc.Ice.OutputStream ostr = inS.startWriteParams();
+        WorkerInfo.ice_write(ostr, ret);
+        inS.endWriteParams(ostr);
+        return inS.setResult(ostr);
+    }
+
     /** @hidden */
     final static String[] _iceOps =
     {
         "countPointsInCircle",
+        "countPointsInCircleBatch",
+        "getInfo",
         "getName",
         "ice_id",
         "ice_ids",
@@ -132,25 +179,33 @@ public interface Worker extends com.zeroc.Ice.Object
             }
             case 1:
             {
-                return _iceD_getName(this, in, current);
+                return _iceD_countPointsInCircleBatch(this, in, current);
             }
             case 2:
             {
-                return com.zeroc.Ice.Object._iceD_ice_id(this, in, current);
+                return _iceD_getInfo(this, in, current);
             }
             case 3:
             {
-                return com.zeroc.Ice.Object._iceD_ice_ids(this, in, current);
+                return _iceD_getName(this, in, current);
             }
             case 4:
             {
-                return com.zeroc.Ice.Object._iceD_ice_isA(this, in, current);
+                return com.zeroc.Ice.Object._iceD_ice_id(this, in, current);
             }
             case 5:
             {
-                return com.zeroc.Ice.Object._iceD_ice_ping(this, in, current);
+                return com.zeroc.Ice.Object._iceD_ice_ids(this, in, current);
             }
             case 6:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_isA(this, in, current);
+            }
+            case 7:
+            {
+                return com.zeroc.Ice.Object._iceD_ice_ping(this, in, current);
+            }
+            case 8:
             {
                 return _iceD_ping(this, in, current);
             }
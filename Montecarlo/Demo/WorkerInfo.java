@@ -0,0 +1,191 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+public class WorkerInfo implements java.lang.Cloneable,
+                                   java.io.Serializable
+{
+    public int cores;
+
+    public int samplingThreads;
+
+    public double pointsPerSecond;
+
+    public String rng;
+
+    public String kernel;
+
+    public WorkerInfo()
+    {
+        this.rng = "";
+        this.kernel = "";
+    }
+
+    public WorkerInfo(int cores, int samplingThreads, double pointsPerSecond, String rng, String kernel)
+    {
+        this.cores = cores;
+        this.samplingThreads = samplingThreads;
+        this.pointsPerSecond = pointsPerSecond;
+        this.rng = rng;
+        this.kernel = kernel;
+    }
+
+    public boolean equals(java.lang.Object rhs)
+    {
+        if(this == rhs)
+        {
+            return true;
+        }
+        WorkerInfo r = null;
+        if(rhs instanceof WorkerInfo)
+        {
+            r = (WorkerInfo)rhs;
+        }
+
+        if(r != null)
+        {
+            if(this.cores != r.cores)
+            {
+                return false;
+            }
+            if(this.samplingThreads != r.samplingThreads)
+            {
+                return false;
+            }
+            if(this.pointsPerSecond != r.pointsPerSecond)
+            {
+                return false;
+            }
+            if(this.rng != r.rng)
+            {
+                if(this.rng == null || r.rng == null || !this.rng.equals(r.rng))
+                {
+                    return false;
+                }
+            }
+            if(this.kernel != r.kernel)
+            {
+                if(this.kernel == null || r.kernel == null || !this.kernel.equals(r.kernel))
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    public int hashCode()
+    {
+        int h_ = 5381;
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, "::Demo::WorkerInfo");
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, cores);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, samplingThreads);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, pointsPerSecond);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, rng);
+        h_ = com.zeroc.IceInternal.HashUtil.hashAdd(h_, kernel);
+        return h_;
+    }
+
+    public WorkerInfo clone()
+    {
+        WorkerInfo c = null;
+        try
+        {
+            c = (WorkerInfo)super.clone();
+        }
+        catch(CloneNotSupportedException ex)
+        {
+            assert false; // impossible
+        }
+        return c;
+    }
+
+    public void ice_writeMembers(com.zeroc.Ice.OutputStream ostr)
+    {
+        ostr.writeInt(this.cores);
+        ostr.writeInt(this.samplingThreads);
+        ostr.writeDouble(this.pointsPerSecond);
+        ostr.writeString(this.rng);
+        ostr.writeString(this.kernel);
+    }
+
+    public void ice_readMembers(com.zeroc.Ice.InputStream istr)
+    {
+        this.cores = istr.readInt();
+        this.samplingThreads = istr.readInt();
+        this.pointsPerSecond = istr.readDouble();
+        this.rng = istr.readString();
+        this.kernel = istr.readString();
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, WorkerInfo v)
+    {
+        if(v == null)
+        {
+            _nullMarshalValue.ice_writeMembers(ostr);
+        }
+        else
+        {
+            v.ice_writeMembers(ostr);
+        }
+    }
+
+    static public WorkerInfo ice_read(com.zeroc.Ice.InputStream istr)
+    {
+        WorkerInfo v = new WorkerInfo();
+        v.ice_readMembers(istr);
+        return v;
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, java.util.Optional<WorkerInfo> v)
+    {
+        if(v != null && v.isPresent())
+        {
+            ice_write(ostr, tag, v.get());
+        }
+    }
+
+    static public void ice_write(com.zeroc.Ice.OutputStream ostr, int tag, WorkerInfo v)
+    {
+        if(ostr.writeOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            int pos = ostr.startSize();
+            ice_write(ostr, v);
+            ostr.endSize(pos);
+        }
+    }
+
+    static public java.util.Optional<WorkerInfo> ice_read(com.zeroc.Ice.InputStream istr, int tag)
+    {
+        if(istr.readOptional(tag, com.zeroc.Ice.OptionalFormat.FSize))
+        {
+            istr.skip(4);
+            return java.util.Optional.of(WorkerInfo.ice_read(istr));
+        }
+        else
+        {
+            return java.util.Optional.empty();
+        }
+    }
+
+    private static final WorkerInfo _nullMarshalValue = new WorkerInfo();
+
+    /** @hidden */
+    public static final long serialVersionUID = 3896294347814335607L;
+}
@@ -17,41 +17,85 @@ package Demo;
 
 public interface WorkerPrx extends com.zeroc.Ice.ObjectPrx
 {
-    default int countPointsInCircle(int numPoints)
+    default long countPointsInCircle(WorkUnit unit, ProgressListenerPrx listener)
     {
-        return countPointsInCircle(numPoints, com.zeroc.Ice.ObjectPrx.noExplicitContext);
+        return countPointsInCircle(unit, listener, com.zeroc.Ice.ObjectPrx.noExplicitContext);
     }
 
-    default int countPointsInCircle(int numPoints, java.util.Map<String, String> context)
+    default long countPointsInCircle(WorkUnit unit, ProgressListenerPrx listener, java.util.Map<String, String> context)
     {
-        return _iceI_countPointsInCircleAsync(numPoints, context, true).waitForResponse();
+        return _iceI_countPointsInCircleAsync(unit, listener, context, true).waitForResponse();
     }
 
-    default java.util.concurrent.CompletableFuture<java.lang.Integer> countPointsInCircleAsync(int numPoints)
+    default java.util.concurrent.CompletableFuture<java.lang.Long> countPointsInCircleAsync(WorkUnit unit, ProgressListenerPrx listener)
     {
-        return _iceI_countPointsInCircleAsync(numPoints, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+        return _iceI_countPointsInCircleAsync(unit, listener, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
     }
 
-    default java.util.concurrent.CompletableFuture<java.lang.Integer> countPointsInCircleAsync(int numPoints, java.util.Map<String, String> context)
+    default java.util.concurrent.CompletableFuture<java.lang.Long> countPointsInCircleAsync(WorkUnit unit, ProgressListenerPrx listener, java.util.Map<String, String> context)
     {
-        return _iceI_countPointsInCircleAsync(numPoints, context, false);
+        return _iceI_countPointsInCircleAsync(unit, listener, context, false);
     }
 
     /**
      * @hidden
-     * @param iceP_numPoints -
+     * @param iceP_unit -
+     * @param iceP_listener -
      * @param context -
      * @param sync -
      * @return -
      **/
-    default com.zeroc.IceInternal.OutgoingAsync<java.lang.Integer> _iceI_countPointsInCircleAsync(int iceP_numPoints, java.util.Map<String, String> context, boolean sync)
+    default com.zeroc.IceInternal.OutgoingAsync<java.lang.Long> _iceI_countPointsInCircleAsync(WorkUnit iceP_unit, ProgressListenerPrx iceP_listener, java.util.Map<String, String> context, boolean sync)
     {
-        com.zeroc.IceInternal.OutgoingAsync<java.lang.Integer> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "countPointsInCircle", null, sync, null);
+        com.zeroc.IceInternal.OutgoingAsync<java.lang.Long> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "countPointsInCircle", null, sync, null);
         f.invoke(true, context, null, ostr -> {
-                     ostr.writeInt(iceP_numPoints);
+                     WorkUnit.ice_write(ostr, iceP_unit);
+                     ostr.writeProxy(iceP_listener);
                  }, istr -> {
-                     int ret;
-                     ret = istr.readInt();
+                     long ret;
+                     ret = istr.readLong();
+                     return ret;
+                 });
+        return f;
+    }
+
+    default long[] countPointsInCircleBatch(WorkUnit[] units, ProgressListenerPrx listener)
+    {
+        return countPointsInCircleBatch(units, listener, com.zeroc.Ice.ObjectPrx.noExplicitContext);
+    }
+
+    default long[] countPointsInCircleBatch(WorkUnit[] units, ProgressListenerPrx listener, java.util.Map<String, String> context)
+    {
+        return _iceI_countPointsInCircleBatchAsync(units, listener, context, true).waitForResponse();
+    }
+
+    default java.util.concurrent.CompletableFuture<long[]> countPointsInCircleBatchAsync(WorkUnit[] units, ProgressListenerPrx listener)
+    {
+        return _iceI_countPointsInCircleBatchAsync(units, listener, com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+    }
+
+    default java.util.concurrent.CompletableFuture<long[]> countPointsInCircleBatchAsync(WorkUnit[] units, ProgressListenerPrx listener, java.util.Map<String, String> context)
+    {
+        return _iceI_countPointsInCircleBatchAsync(units, listener, context, false);
+    }
+
+    /**
+     * @hidden
+     * @param iceP_units -
+     * @param iceP_listener -
+     * @param context -
+     * @param sync -
+     * @return -
+     **/
+    default com.zeroc.IceInternal.OutgoingAsync<long[]> _iceI_countPointsInCircleBatchAsync(WorkUnit[] iceP_units, ProgressListenerPrx iceP_listener, java.util.Map<String, String> context, boolean sync)
+    {
+        com.zeroc.IceInternal.OutgoingAsync<long[]> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "countPointsInCircleBatch", null, sync, null);
+        f.invoke(true, context, null, ostr -> {
+                     WorkUnitSeqHelper.write(ostr, iceP_units);
+                     ostr.writeProxy(iceP_listener);
+                 }, istr -> {
+                     long[] ret;
+                     ret = istr.readLongSeq();
                      return ret;
                  });
         return f;
@@ -127,6 +171,43 @@ public interface WorkerPrx extends com.zeroc.Ice.ObjectPrx
         return f;
     }
 
+    default WorkerInfo getInfo()
+    {
+        return getInfo(com.zeroc.Ice.ObjectPrx.noExplicitContext);
+    }
+
+    default WorkerInfo getInfo(java.util.Map<String, String> context)
+    {
+        return _iceI_getInfoAsync(context, true).waitForResponse();
+    }
+
+    default java.util.concurrent.CompletableFuture<WorkerInfo> getInfoAsync()
+    {
+        return _iceI_getInfoAsync(com.zeroc.Ice.ObjectPrx.noExplicitContext, false);
+    }
+
+    default java.util.concurrent.CompletableFuture<WorkerInfo> getInfoAsync(java.util.Map<String, String> context)
+    {
+        return _iceI_getInfoAsync(context, false);
+    }
+
+    /**
+     * @hidden
+     * @param context -
+     * @param sync -
+     * @return -
+     **/
+    default com.zeroc.IceInternal.OutgoingAsync<WorkerInfo> _iceI_getInfoAsync(java.util.Map<String, String> context, boolean sync)
+    {
+        com.zeroc.IceInternal.OutgoingAsync<WorkerInfo> f = new com.zeroc.IceInternal.OutgoingAsync<>(this, "getInfo", null, sync, null);
+        f.invoke(true, context, null, null, istr -> {
+                     WorkerInfo ret;
+                     ret = WorkerInfo.ice_read(istr);
+                     return ret;
+                 });
+        return f;
+    }
+
     /**
      * Contacts the remote server to verify that the object implements this type.
      * Raises a local exception if a communication error occurs.
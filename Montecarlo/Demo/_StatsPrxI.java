@@ -0,0 +1,23 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+//
+// Ice version 3.7.10
+//
+// <auto-generated>
+//
+// Generated from file `Montecarlo.ice'
+//
+// Warning: do not edit this file.
+//
+// </auto-generated>
+//
+
+package Demo;
+
+/** @hidden */
+public class _StatsPrxI extends com.zeroc.Ice._ObjectPrxI implements StatsPrx
+{
+    /** @hidden */
+    public static final long serialVersionUID = 0L;
+}
@@ -0,0 +1,49 @@
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Mide solo el kernel sobre un segmento de 2^20 puntos, sin el pool ni la division en segmentos del worker.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class KernelBenchmark {
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    @Param({"xoshiro"})
+    public String rng;
+
+    @Param({"1048576"})
+    public long numPoints;
+
+    private MethodHandle count;
+    private Object random;
+
+    @Setup
+    public void setUp() throws Exception {
+        count = Targets.newKernel(kernel);
+        random = Targets.newRandomSource(rng);
+    }
+
+    @Benchmark
+    public long countPointsInCircle() throws Throwable {
+        return (long) count.invokeExact(random, numPoints);
+    }
+}
@@ -0,0 +1,83 @@
+package benchmarks;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zeroc.Ice.Communicator;
+import com.zeroc.Ice.InitializationData;
+import com.zeroc.Ice.ObjectAdapter;
+import com.zeroc.Ice.Util;
+
+import Demo.WorkerPrx;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MasterBenchmark {
+
+    // Con semilla fija cada iteracion repite exactamente los mismos puntos.
+    private static final OptionalLong SEED = OptionalLong.of(42);
+
+    @Param({"1", "4"})
+    public int workers;
+
+    @Param({"100", "1000000"})
+    public long numPoints;
+
+    // collocated: llamadas en memoria; tcp: cada worker se invoca por la interfaz de loopback.
+    @Param({"collocated", "tcp"})
+    public String transport;
+
+    private Communicator communicator;
+    private Demo.Master master;
+
+    // Sin archivos en el directorio actual ni hilo de heartbeat: el benchmark mide solo el reparto y la recoleccion.
+    private static final String[] MASTER_ARGS = {
+            "--Master.Checkpoint.File=", "--Master.Results.File=", "--Master.Heartbeat.Interval=0"};
+
+    @Setup
+    public void setUp() throws Exception {
+        InitializationData initData = new InitializationData();
+        initData.properties = Util.createProperties();
+        initData.properties.parseCommandLineOptions("Master", MASTER_ARGS);
+        communicator = Util.initialize(initData);
+        ObjectAdapter adapter = communicator.createObjectAdapterWithEndpoints("BenchmarkAdapter", "tcp -h 127.0.0.1");
+        master = Targets.newMaster(adapter);
+
+        for (int i = 1; i <= workers; i++) {
+            String name = "Worker" + i;
+            WorkerPrx proxy = WorkerPrx.uncheckedCast(
+                    adapter.add(Targets.newWorker(name, "xoshiro", "scalar", 1), Util.stringToIdentity(name)));
+            master.addWorker(name, proxy.ice_collocationOptimized(transport.equals("collocated")), null);
+        }
+        adapter.activate();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Targets.closeMaster(master);
+        communicator.destroy();
+    }
+
+    @Benchmark
+    public double calculatePi() {
+        return master.calculatePiAsync(numPoints, false, SEED, Optional.empty(), null).toCompletableFuture().join();
+    }
+}
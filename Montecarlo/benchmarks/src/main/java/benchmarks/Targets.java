@@ -0,0 +1,60 @@
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+import com.zeroc.Ice.ObjectAdapter;
+
+// Las clases del master y del worker viven en el paquete por defecto, que no se puede importar
+// desde un paquete con nombre (y JMH no admite benchmarks sin paquete). Se instancian por
+// reflexion y se usan a traves de las interfaces generadas de Demo.
+final class Targets {
+
+    private Targets() {
+    }
+
+    static Demo.Worker newWorker(String name, String rng, String kernel, int samplingThreads) throws Exception {
+        Class<?> rngType = Class.forName("RandomSourceType");
+        Class<?> kernelType = Class.forName("PointKernelType");
+        Class<?> kernelInterface = Class.forName("PointKernel");
+
+        Object randomSourceType = rngType.getMethod("fromConfigName", String.class).invoke(null, rng);
+        Object kernelConfig = kernelType.getMethod("fromConfigName", String.class).invoke(null, kernel);
+        Object pointKernel = kernelType.getMethod("newKernel").invoke(kernelConfig);
+
+        // Sin cache: los trabajos con semilla repetidos medirian la cache y no el muestreo.
+        Class<?> cacheType = Class.forName("ResultCache");
+        Object cache = cacheType.getConstructor(int.class, long.class).newInstance(0, 0L);
+
+        Constructor<?> constructor = Class.forName("WorkerI")
+                .getConstructor(String.class, rngType, kernelInterface, int.class, long.class, cacheType);
+        return (Demo.Worker) constructor.newInstance(name, randomSourceType, pointKernel, samplingThreads, 1000L, cache);
+    }
+
+    // El kernel no tiene interfaz en Demo: se devuelve countPointsInCircle ya ligado, como (Object, long) -> long.
+    static MethodHandle newKernel(String kernel) throws Exception {
+        Class<?> kernelType = Class.forName("PointKernelType");
+        Class<?> kernelInterface = Class.forName("PointKernel");
+        Object kernelConfig = kernelType.getMethod("fromConfigName", String.class).invoke(null, kernel);
+        Object pointKernel = kernelType.getMethod("newKernel").invoke(kernelConfig);
+        MethodHandle count = MethodHandles.publicLookup().findVirtual(kernelInterface, "countPointsInCircle",
+                MethodType.methodType(long.class, Class.forName("RandomSource"), long.class));
+        return count.bindTo(pointKernel).asType(MethodType.methodType(long.class, Object.class, long.class));
+    }
+
+    static Object newRandomSource(String rng) throws Exception {
+        Class<?> rngType = Class.forName("RandomSourceType");
+        Object randomSourceType = rngType.getMethod("fromConfigName", String.class).invoke(null, rng);
+        return rngType.getMethod("newSource").invoke(randomSourceType);
+    }
+
+    static Demo.Master newMaster(ObjectAdapter adapter) throws Exception {
+        return (Demo.Master) Class.forName("MasterI").getConstructor(ObjectAdapter.class).newInstance(adapter);
+    }
+
+    static void closeMaster(Demo.Master master) throws Exception {
+        master.getClass().getMethod("close").invoke(master);
+    }
+}
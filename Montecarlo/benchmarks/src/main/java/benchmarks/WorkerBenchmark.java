@@ -0,0 +1,53 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class WorkerBenchmark {
+
+    @Param({"xoshiro", "splittable", "threadlocal"})
+    public String rng;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    @Param({"1"})
+    public int threads;
+
+    @Param({"1000000"})
+    public long numPoints;
+
+    // Sobol y Halton ignoran rng y kernel; se eligen con -p sampling=Sobol. Stratified usa una reticula de 1000 x 1000.
+    @Param({"Uniform"})
+    public String sampling;
+
+    private Demo.Worker worker;
+
+    @Setup
+    public void setUp() throws Exception {
+        worker = Targets.newWorker("BenchmarkWorker", rng, kernel, threads);
+    }
+
+    @Benchmark
+    public long countPointsInCircle() {
+        return worker.countPointsInCircleAsync(new Demo.WorkUnit(0, 0, numPoints, new long[0], Demo.SamplingMode.valueOf(sampling), 0, 42, 1000, false), null, null)
+                .toCompletableFuture().join();
+    }
+}
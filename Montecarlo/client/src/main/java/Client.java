@@ -1,3 +1,5 @@
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Scanner;
 import java.util.concurrent.CompletableFuture;
 import com.zeroc.Ice.Communicator;
@@ -21,17 +23,28 @@ public class Client {
                 System.out.println("Seleccione el modo de operacion:");
                 System.out.println("1. Estimacion normal");
                 System.out.println("2. Modo prueba");
-                System.out.print("Ingrese su opcion (1/2): ");
+                System.out.println("3. Ver progreso de trabajos activos");
+                System.out.println("4. Cancelar un trabajo");
+                System.out.println("5. Estimacion con precision objetivo");
+                System.out.println("6. Barrido por lotes");
+                System.out.println("7. Refinar un trabajo terminado");
+                System.out.println("8. Ver metricas del master");
+                System.out.print("Ingrese su opcion (1/2/3/4/5/6/7/8): ");
                 int option = scanner.nextInt();
 
                 if (option == 1) {
                     // Estimación normal
                     System.out.print("Ingrese la cantidad de puntos para estimar pi: ");
-                    int totalPoints = scanner.nextInt();
+                    long totalPoints = scanner.nextLong();
+                    System.out.print("Ingrese una semilla para un resultado reproducible (o 'n' para ninguna): ");
+                    String seedInput = scanner.next();
+                    OptionalLong seed = seedInput.equalsIgnoreCase("n") ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(seedInput));
+                    System.out.print("Tipo de muestreo (1. Uniforme, 2. Sobol, 3. Halton, 4. Estratificado, 5. Antitetico, 6. Reticula): ");
+                    Optional<Demo.SamplingMode> mode = Optional.ofNullable(Demo.SamplingMode.valueOf(scanner.nextInt() - 1));
 
-                    CompletableFuture<Float> piEstimateFuture = CompletableFuture.supplyAsync(() -> {
+                    CompletableFuture<Demo.JobResult> piEstimateFuture = CompletableFuture.supplyAsync(() -> {
                         try {
-                            return master.calculatePiAsync(totalPoints, false).get();
+                            return master.runJobAsync(totalPoints, seed, mode).get();
                         } catch (Exception e) {
                             System.err.println("Error al calcular pi: " + e.getMessage());
                             return null;
@@ -40,9 +53,9 @@ public class Client {
 
                     piEstimateFuture.join();
 
-                    piEstimateFuture.thenAccept(piEstimate -> {
-                        if (piEstimate != null) {
-                            System.out.printf("Estimacion de pi: %.6f%n", piEstimate);
+                    piEstimateFuture.thenAccept(result -> {
+                        if (result != null && result.jobId != -1) {
+                            System.out.printf("Estimacion de pi: %.6f (trabajo %d)%n", result.estimate, result.jobId);
                         } else {
                             System.err.println("No se pudo realizar la estimación de pi.");
                         }
@@ -50,15 +63,15 @@ public class Client {
                     
                 } else if (option == 2) {
                    
-                    int[] testPoints = {100, 1000, 10000, 100000, 1000000, 10000000, -1};
+                    long[] testPoints = {100, 1000, 10000, 100000, 1000000, 10000000, -1};
 
-                    for (int points : testPoints) {
+                    for (long points : testPoints) {
                         if (points != -1) {
                             for (int i = 0; i < 10; i++) {
 
-                                CompletableFuture<Float> piEstimateFuture = CompletableFuture.supplyAsync(() -> {
+                                CompletableFuture<Double> piEstimateFuture = CompletableFuture.supplyAsync(() -> {
                                     try {
-                                        return master.calculatePiAsync(points, true).get();
+                                        return master.calculatePiAsync(points, true, OptionalLong.empty(), Optional.empty()).get();
                                     } catch (Exception e) {
                                         return null;
                                     }
@@ -68,9 +81,9 @@ public class Client {
                             }
                         } else {
 
-                            CompletableFuture<Float> piEstimateFuture = CompletableFuture.supplyAsync(() -> {
+                            CompletableFuture<Double> piEstimateFuture = CompletableFuture.supplyAsync(() -> {
                                 try {
-                                    return master.calculatePiAsync(points, true).get();
+                                    return master.calculatePiAsync(points, true, OptionalLong.empty(), Optional.empty()).get();
                                 } catch (Exception e) {
                                     return null;
                                 }
@@ -81,8 +94,78 @@ public class Client {
                     }
 
                     System.out.println("Modo prueba ejecutado.");
+                } else if (option == 3) {
+                    Demo.JobProgress[] jobs = master.getActiveJobs();
+                    if (jobs.length == 0) {
+                        System.out.println("No hay trabajos activos.");
+                    }
+                    for (Demo.JobProgress job : jobs) {
+                        System.out.printf("Trabajo %d: %d/%d puntos, pi = %.6f +/- %.6f (95%%)%n", job.jobId,
+                                job.pointsThrown, job.totalPoints, job.estimate, job.confidenceHalfWidth);
+                    }
+                } else if (option == 4) {
+                    System.out.print("Ingrese el identificador del trabajo: ");
+                    long jobId = scanner.nextLong();
+                    if (master.cancelJob(jobId)) {
+                        System.out.println("Trabajo " + jobId + " cancelado.");
+                    } else {
+                        System.out.println("El trabajo " + jobId + " no esta activo.");
+                    }
+                } else if (option == 5) {
+                    System.out.print("Ingrese el error absoluto objetivo (por ejemplo 0.0001): ");
+                    double targetError = scanner.nextDouble();
+                    System.out.print("Ingrese el nivel de confianza (por ejemplo 0.95): ");
+                    double confidenceLevel = scanner.nextDouble();
+                    System.out.print("Ingrese la cantidad maxima de puntos: ");
+                    long maxPoints = scanner.nextLong();
+
+                    Demo.PrecisionResult result = master.calculatePiToPrecision(targetError, confidenceLevel, maxPoints);
+                    if (result.pointsUsed > 0) {
+                        System.out.printf("Estimacion de pi: %.8f +/- %.8f (%d puntos)%n", result.estimate,
+                                result.confidenceHalfWidth, result.pointsUsed);
+                    } else {
+                        System.err.println("No se pudo realizar la estimación de pi.");
+                    }
+                } else if (option == 6) {
+                    // Las mismas corridas del modo prueba, enviadas al master en una sola invocacion.
+                    long[] sweepPoints = {100, 1000, 10000, 100000, 1000000, 10000000};
+                    int repetitions = 10;
+                    Demo.JobSpec[] specs = new Demo.JobSpec[sweepPoints.length * repetitions];
+                    for (int i = 0; i < specs.length; i++) {
+                        specs[i] = new Demo.JobSpec(sweepPoints[i / repetitions], Demo.SamplingMode.Uniform, false, 0);
+                    }
+
+                    long start = System.nanoTime();
+                    double[] estimates = master.calculatePiBatch(specs);
+                    long duration = System.nanoTime() - start;
+                    for (int i = 0; i < sweepPoints.length; i++) {
+                        double error = 0;
+                        for (int j = 0; j < repetitions; j++) {
+                            error += Math.abs(estimates[i * repetitions + j] - Math.PI);
+                        }
+                        System.out.printf("%d puntos: error medio %.6f%n", sweepPoints[i], error / repetitions);
+                    }
+                    System.out.printf("Lote de %d trabajos en %.3f s%n", specs.length, duration / 1e9);
+                } else if (option == 7) {
+                    System.out.print("Ingrese el identificador del trabajo: ");
+                    long jobId = scanner.nextLong();
+                    System.out.print("Ingrese la cantidad de puntos adicionales: ");
+                    long extraPoints = scanner.nextLong();
+
+                    Demo.JobResult result = master.refine(jobId, extraPoints);
+                    if (result.jobId != -1) {
+                        System.out.printf("Estimacion de pi: %.8f +/- %.8f (%d puntos)%n", result.estimate,
+                                result.confidenceHalfWidth, result.pointsThrown);
+                    } else {
+                        System.err.println("No se pudo refinar el trabajo " + jobId + ".");
+                    }
+                } else if (option == 8) {
+                    Demo.StatsPrx stats = Demo.StatsPrx.checkedCast(communicator.stringToProxy("Stats:default -p 10000"));
+                    for (Demo.Metric metric : stats.getMetrics()) {
+                        System.out.println(metric.name + " " + metric.value);
+                    }
                 } else {
-                    System.out.println("Opcion no valida. Por favor, elija 1 o 2.");
+                    System.out.println("Opcion no valida. Por favor, elija 1, 2, 3, 4, 5, 6, 7 u 8.");
                 }
 
                 System.out.print("Desea realizar otra operacion? (s/n): ");
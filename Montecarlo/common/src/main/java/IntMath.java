@@ -0,0 +1,17 @@
+public final class IntMath {
+
+    private IntMath() {
+    }
+
+    // Raiz cuadrada entera por defecto; la correccion cubre el redondeo de Math.sqrt en valores grandes.
+    public static long floorSqrt(long n) {
+        long root = (long) Math.sqrt((double) n);
+        while (root * root > n) {
+            root--;
+        }
+        while ((root + 1) * (root + 1) <= n) {
+            root++;
+        }
+        return root;
+    }
+}
@@ -0,0 +1,118 @@
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Registro asincrono por niveles. Los hilos que atienden peticiones solo encolan el formato y sus argumentos
+// en un buffer circular acotado; un hilo aparte formatea y escribe en consola. Si el buffer se llena, el
+// mensaje se descarta en lugar de bloquear y el hilo de escritura informa cuantos se perdieron.
+public final class Log {
+
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    private static final int CAPACITY = 8192;
+    private static final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private static final AtomicLong dropped = new AtomicLong();
+    private static volatile Level threshold = Level.INFO;
+
+    static {
+        Thread writer = new Thread(Log::writeLoop, "Log");
+        writer.setDaemon(true);
+        writer.start();
+        // Lo que siga en el buffer al salir se escribe antes de terminar el proceso.
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::drain, "LogFlush"));
+    }
+
+    private Log() {
+    }
+
+    // Acepta debug, info, warn o error; un valor desconocido deja el nivel INFO.
+    public static void setLevel(String name) {
+        try {
+            threshold = Level.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            threshold = Level.INFO;
+            warn("Nivel de registro desconocido: %s; se usa INFO.", name);
+        }
+    }
+
+    public static boolean isEnabled(Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    public static void debug(String format, Object... args) {
+        log(Level.DEBUG, format, args);
+    }
+
+    public static void info(String format, Object... args) {
+        log(Level.INFO, format, args);
+    }
+
+    public static void warn(String format, Object... args) {
+        log(Level.WARN, format, args);
+    }
+
+    public static void error(String format, Object... args) {
+        log(Level.ERROR, format, args);
+    }
+
+    // Los argumentos se formatean en el hilo de escritura; deben ser valores que no cambien despues.
+    private static void log(Level level, String format, Object[] args) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        if (!queue.offer(new Entry(level, format, args))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private static void writeLoop() {
+        List<Entry> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private static void drain() {
+        List<Entry> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        write(batch);
+    }
+
+    // Un solo escritor a la vez, asi el hilo de cierre no intercala lineas con el de escritura.
+    private static synchronized void write(List<Entry> batch) {
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            System.err.println("(" + lost + " mensajes de registro descartados)");
+        }
+        for (Entry entry : batch) {
+            PrintStream out = entry.level == Level.ERROR ? System.err : System.out;
+            out.println(entry.args.length == 0 ? entry.format : String.format(entry.format, entry.args));
+        }
+        System.out.flush();
+    }
+
+    private static final class Entry {
+        private final Level level;
+        private final String format;
+        private final Object[] args;
+
+        private Entry(Level level, String format, Object[] args) {
+            this.level = level;
+            this.format = format;
+            this.args = args;
+        }
+    }
+}
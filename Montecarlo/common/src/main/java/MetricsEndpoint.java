@@ -0,0 +1,51 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpServer;
+
+// Endpoint HTTP /metrics en formato de texto de Prometheus, con el servidor incluido en el JDK.
+public class MetricsEndpoint implements AutoCloseable {
+
+    private final HttpServer server;
+
+    public MetricsEndpoint(MetricsRegistry metrics, int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = metrics.toPrometheus().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // Un solo hilo basta: cada consulta solo lee contadores.
+        server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Metrics");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+    }
+
+    // Crea el endpoint si el puerto es positivo; un puerto ocupado no impide arrancar el proceso.
+    public static MetricsEndpoint start(MetricsRegistry metrics, int port) {
+        if (port <= 0) {
+            return null;
+        }
+        try {
+            MetricsEndpoint endpoint = new MetricsEndpoint(metrics, port);
+            Log.info("Metricas disponibles en http://localhost:" + port + "/metrics");
+            return endpoint;
+        } catch (IOException e) {
+            Log.error("No se pudo abrir el endpoint de metricas: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void close() {
+        server.stop(0);
+    }
+}
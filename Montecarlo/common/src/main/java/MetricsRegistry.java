@@ -0,0 +1,107 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+// Registro de metricas del proceso. Los nombres siguen la convencion de Prometheus y pueden llevar etiquetas,
+// por ejemplo master_worker_points_total{worker="Worker1"}. Los histogramas guardan nanosegundos y se
+// exportan en segundos como resumen con cuantiles.
+public class MetricsRegistry {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    public LongAdder counter(String name, String help) {
+        return (LongAdder) family(name, help, "counter").metrics.computeIfAbsent(labelsOf(name), labels -> new LongAdder());
+    }
+
+    // Contador que ya se lleva en otra parte; solo se lee al exportar.
+    public void counter(String name, String help, DoubleSupplier value) {
+        family(name, help, "counter").metrics.put(labelsOf(name), value);
+    }
+
+    public void gauge(String name, String help, DoubleSupplier value) {
+        family(name, help, "gauge").metrics.put(labelsOf(name), value);
+    }
+
+    public Histogram histogram(String name, String help) {
+        return (Histogram) family(name, help, "summary").metrics.computeIfAbsent(labelsOf(name), labels -> new Histogram());
+    }
+
+    // Valores planos, con los histogramas expandidos en cuantiles, suma y cantidad.
+    public Map<String, Double> snapshot() {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            addValues(entry.getKey(), entry.getValue(), values);
+        }
+        return values;
+    }
+
+    // Formato de texto de Prometheus, version 0.0.4.
+    public String toPrometheus() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            String name = entry.getKey();
+            text.append("# HELP ").append(name).append(' ').append(entry.getValue().help).append('\n');
+            text.append("# TYPE ").append(name).append(' ').append(entry.getValue().type).append('\n');
+            Map<String, Double> values = new LinkedHashMap<>();
+            addValues(name, entry.getValue(), values);
+            for (Map.Entry<String, Double> value : values.entrySet()) {
+                text.append(value.getKey()).append(' ').append(value.getValue()).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private static void addValues(String name, Family family, Map<String, Double> values) {
+        for (Map.Entry<String, Object> metric : family.metrics.entrySet()) {
+            String labels = metric.getKey();
+            Object value = metric.getValue();
+            if (value instanceof LongAdder) {
+                values.put(name + labels, (double) ((LongAdder) value).sum());
+            } else if (value instanceof DoubleSupplier) {
+                values.put(name + labels, ((DoubleSupplier) value).getAsDouble());
+            } else {
+                Histogram histogram = (Histogram) value;
+                for (double q : QUANTILES) {
+                    values.put(name + withLabel(labels, "quantile", Double.toString(q)), histogram.quantile(q) / 1e9);
+                }
+                values.put(name + "_sum" + labels, histogram.getSum() / 1e9);
+                values.put(name + "_count" + labels, (double) histogram.getCount());
+            }
+        }
+    }
+
+    private Family family(String name, String help, String type) {
+        return families.computeIfAbsent(familyOf(name), family -> new Family(help, type));
+    }
+
+    private static String familyOf(String name) {
+        int brace = name.indexOf('{');
+        return brace < 0 ? name : name.substring(0, brace);
+    }
+
+    private static String labelsOf(String name) {
+        int brace = name.indexOf('{');
+        return brace < 0 ? "" : name.substring(brace);
+    }
+
+    private static String withLabel(String labels, String key, String value) {
+        String label = key + "=\"" + value + "\"";
+        return labels.isEmpty() ? "{" + label + "}" : labels.substring(0, labels.length() - 1) + "," + label + "}";
+    }
+
+    private static final class Family {
+        private final String help;
+        private final String type;
+        private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+
+        private Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+}
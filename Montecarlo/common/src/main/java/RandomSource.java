@@ -0,0 +1,6 @@
+public interface RandomSource {
+
+    double nextDouble();
+
+    long nextLong();
+}
@@ -0,0 +1,22 @@
+import java.util.Map;
+
+import Demo.Metric;
+
+public class StatsI implements Demo.Stats {
+
+    private final MetricsRegistry metrics;
+
+    public StatsI(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    public Metric[] getMetrics(com.zeroc.Ice.Current current) {
+        Map<String, Double> values = metrics.snapshot();
+        Metric[] result = new Metric[values.size()];
+        int i = 0;
+        for (Map.Entry<String, Double> value : values.entrySet()) {
+            result[i++] = new Metric(value.getKey(), value.getValue());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,17 @@
+// Particion de un trabajo con semilla: el punto i cae en el segmento i / SEGMENT_POINTS y el segmento k
+// usa el estado de la semilla avanzado k saltos. El resultado no depende de como se repartan los segmentos.
+public final class StreamSegments {
+
+    public static final long SEGMENT_POINTS = 1L << 20;
+
+    private StreamSegments() {
+    }
+
+    public static long segmentsFor(long points) {
+        return (points + SEGMENT_POINTS - 1) / SEGMENT_POINTS;
+    }
+
+    public static long alignChunkSize(long chunkSize) {
+        return segmentsFor(chunkSize) * SEGMENT_POINTS;
+    }
+}
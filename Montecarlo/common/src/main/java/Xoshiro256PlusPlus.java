@@ -0,0 +1,76 @@
+public final class Xoshiro256PlusPlus implements RandomSource {
+
+    // Polinomio de salto de los autores: equivale a 2^128 llamadas a nextLong.
+    private static final long[] JUMP = {0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL};
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    public Xoshiro256PlusPlus(long seed) {
+        // El estado se expande con SplitMix64 para que nunca sea todo ceros.
+        long z = seed;
+        s0 = splitMix64(z += 0x9E3779B97F4A7C15L);
+        s1 = splitMix64(z += 0x9E3779B97F4A7C15L);
+        s2 = splitMix64(z += 0x9E3779B97F4A7C15L);
+        s3 = splitMix64(z + 0x9E3779B97F4A7C15L);
+    }
+
+    public Xoshiro256PlusPlus(long[] state) {
+        s0 = state[0];
+        s1 = state[1];
+        s2 = state[2];
+        s3 = state[3];
+    }
+
+    public long[] getState() {
+        return new long[] {s0, s1, s2, s3};
+    }
+
+    public void jump() {
+        long j0 = 0;
+        long j1 = 0;
+        long j2 = 0;
+        long j3 = 0;
+        for (long word : JUMP) {
+            for (int bit = 0; bit < 64; bit++) {
+                if ((word & (1L << bit)) != 0) {
+                    j0 ^= s0;
+                    j1 ^= s1;
+                    j2 ^= s2;
+                    j3 ^= s3;
+                }
+                nextLong();
+            }
+        }
+        s0 = j0;
+        s1 = j1;
+        s2 = j2;
+        s3 = j3;
+    }
+
+    public long nextLong() {
+        long result = Long.rotateLeft(s0 + s3, 23) + s0;
+        long t = s1 << 17;
+
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+
+        return result;
+    }
+
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    private static long splitMix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,162 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import Demo.ProgressListenerPrx;
+import Demo.WorkUnit;
+import Demo.WorkerPrx;
+
+// Reparte los bloques de varios trabajos en un solo lote por worker, asi un barrido de trabajos
+// pequenos no paga una ida y vuelta por bloque.
+public class BatchDispatcher implements WorkerDispatch {
+
+    private final Map<Long, Job> jobs = new HashMap<>();
+    private final ProgressListenerPrx progressListener;
+    private final MasterMetrics metrics;
+    private final WorkerThroughput throughput;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private final WorkerCalls<long[]> calls = new WorkerCalls<>();
+    private List<WorkerPrx> workers;
+    private int pendingBatches;
+
+    public BatchDispatcher(List<Job> jobs, ProgressListenerPrx progressListener, MasterMetrics metrics, WorkerThroughput throughput) {
+        for (Job job : jobs) {
+            this.jobs.put(job.getId(), job);
+        }
+        this.progressListener = progressListener;
+        this.metrics = metrics;
+        this.throughput = throughput;
+    }
+
+    // Cada lote pendiente es una sola invocacion en curso.
+    public synchronized int getChunksInFlight() {
+        return pendingBatches;
+    }
+
+    public int getQueuedChunks() {
+        return 0;
+    }
+
+    public CompletableFuture<Void> dispatch(List<WorkerPrx> workers) {
+        if (workers.isEmpty()) {
+            result.completeExceptionally(new IllegalStateException("No hay workers disponibles"));
+            return result;
+        }
+        this.workers = workers;
+
+        // Cada bloque va al worker que lo terminaria antes segun su ritmo y lo que ya tiene asignado.
+        List<List<WorkUnit>> batches = new ArrayList<>();
+        long[] load = new long[workers.size()];
+        double[] rate = throughput.ratesOf(workers);
+        for (int i = 0; i < workers.size(); i++) {
+            batches.add(new ArrayList<>());
+        }
+        for (Job job : jobs.values()) {
+            long chunkSize = job.alignChunkSize(ChunkScheduler.chunkSizeFor(job.getTotalPoints(), workers.size(), job.getSamplingMode()));
+            for (long claimed = 0; claimed < job.getTotalPoints(); ) {
+                long points = Math.min(chunkSize, job.getTotalPoints() - claimed);
+                int target = 0;
+                for (int i = 1; i < load.length; i++) {
+                    if ((load[i] + points) / rate[i] < (load[target] + points) / rate[target]) {
+                        target = i;
+                    }
+                }
+                batches.get(target).add(job.claimUnit(points));
+                load[target] += points;
+                claimed += points;
+            }
+        }
+
+        synchronized (this) {
+            for (List<WorkUnit> batch : batches) {
+                if (!batch.isEmpty()) {
+                    pendingBatches++;
+                }
+            }
+            if (pendingBatches == 0) {
+                result.complete(null);
+                return result;
+            }
+        }
+        for (int i = 0; i < workers.size(); i++) {
+            if (!batches.get(i).isEmpty()) {
+                send(workers.get(i), batches.get(i));
+            }
+        }
+        return result;
+    }
+
+    private void send(WorkerPrx worker, List<WorkUnit> chunks) {
+        WorkUnit[] units = new WorkUnit[chunks.size()];
+        for (int i = 0; i < units.length; i++) {
+            units[i] = chunks.get(i).clone();
+            units[i].chunkId = jobs.get(units[i].jobId).nextChunkId();
+        }
+
+        long sent = System.nanoTime();
+        CompletableFuture<long[]> call = worker.countPointsInCircleBatchAsync(units, ProgressListenerI.forWorker(progressListener, worker));
+        metrics.dispatched(System.nanoTime() - sent);
+        call.whenComplete((inside, ex) -> {
+            if (ex != null) {
+                metrics.failed();
+                reassign(worker, chunks, units, ex);
+                return;
+            }
+            long points = 0;
+            for (WorkUnit unit : units) {
+                points += unit.numPoints;
+            }
+            long elapsed = System.nanoTime() - sent;
+            metrics.completed(worker, points, elapsed);
+            throughput.record(worker, points, elapsed);
+            for (int i = 0; i < units.length; i++) {
+                Job job = jobs.get(units[i].jobId);
+                // Un bloque interrumpido por cancelacion solo cuenta con lo que ya habia reportado.
+                if (!job.isCancelled()) {
+                    job.completeChunk(units[i], inside[i]);
+                }
+            }
+            synchronized (this) {
+                if (--pendingBatches == 0) {
+                    result.complete(null);
+                }
+            }
+        });
+        calls.track(worker, call);
+    }
+
+    public void abandon(WorkerPrx worker) {
+        calls.abandon(worker);
+    }
+
+    // El lote completo pasa al siguiente worker activo con los mismos subflujos e indices.
+    private void reassign(WorkerPrx worker, List<WorkUnit> chunks, WorkUnit[] units, Throwable ex) {
+        calls.exclude(worker);
+        List<WorkUnit> retry = new ArrayList<>();
+        for (int i = 0; i < units.length; i++) {
+            Job job = jobs.get(units[i].jobId);
+            job.abandonChunk(units[i].chunkId);
+            if (!job.isCancelled()) {
+                retry.add(chunks.get(i));
+            }
+        }
+        Log.warn("Lote de %d bloques fallo (%s); se reasignan %d bloques.", units.length, ex.getClass().getSimpleName(), retry.size());
+
+        if (retry.isEmpty()) {
+            synchronized (this) {
+                if (--pendingBatches == 0) {
+                    result.complete(null);
+                }
+            }
+            return;
+        }
+        WorkerPrx next = calls.nextWorker(workers, worker);
+        if (next == null) {
+            result.completeExceptionally(ex);
+            return;
+        }
+        send(next, retry);
+    }
+}
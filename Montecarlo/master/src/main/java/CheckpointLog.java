@@ -0,0 +1,221 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import Demo.SamplingMode;
+import Demo.WorkUnit;
+
+// Registro de solo agregado con el avance de los trabajos largos, para retomarlos si el master se cae.
+// Una linea por evento:
+//   J id modo conSemilla semilla aleatorizacion totalPuntos puntosPrevios dentroPrevios indice segmento
+//   C id indice puntos segmento   (bloque reservado)
+//   D id indice dentro            (bloque terminado)
+//   F id                          (trabajo terminado)
+// Las lineas se acumulan en memoria y se escriben con un solo fsync por intervalo; lo que se pierda en una
+// caida son bloques terminados que se vuelven a calcular.
+public class CheckpointLog {
+
+    private final FileChannel channel;
+    private final List<RecoveredJob> recovered = new ArrayList<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object writeLock = new Object();
+    private StringBuilder pending = new StringBuilder();
+
+    private CheckpointLog(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    // Lee el registro anterior, lo compacta dejando solo los trabajos sin terminar y lo abre para seguir agregando.
+    public static CheckpointLog open(Path path, long syncIntervalMillis) throws IOException {
+        Map<Long, List<String>> unfinished = new LinkedHashMap<>();
+        if (Files.exists(path)) {
+            String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            List<String> complete = new ArrayList<>(Arrays.asList(content.split("\n")));
+            // Cada escritura termina en salto de linea; un ultimo fragmento sin el quedo cortado por la caida.
+            if (!content.endsWith("\n")) {
+                complete.remove(complete.size() - 1);
+            }
+            for (String line : complete) {
+                String[] fields = line.split(" ");
+                if (fields.length < 2) {
+                    continue;
+                }
+                long jobId;
+                try {
+                    jobId = Long.parseLong(fields[1]);
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (fields[0].equals("J")) {
+                    // Una cabecera nueva (por ejemplo al refinar) reemplaza todo lo anterior del trabajo.
+                    unfinished.put(jobId, new ArrayList<>());
+                } else if (fields[0].equals("F")) {
+                    unfinished.remove(jobId);
+                    continue;
+                }
+                List<String> lines = unfinished.get(jobId);
+                if (lines != null) {
+                    lines.add(line);
+                }
+            }
+        }
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        List<String> kept = new ArrayList<>();
+        for (List<String> lines : unfinished.values()) {
+            kept.addAll(lines);
+        }
+        Files.write(compacted, kept, StandardCharsets.UTF_8);
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        CheckpointLog log = new CheckpointLog(path);
+        for (List<String> lines : unfinished.values()) {
+            RecoveredJob job = log.restore(lines);
+            if (job != null) {
+                log.recovered.add(job);
+            }
+        }
+        log.executor.scheduleWithFixedDelay(log::sync, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        // Al cerrar el master de forma ordenada no queda nada sin escribir.
+        Runtime.getRuntime().addShutdownHook(new Thread(log::sync, "CheckpointSync"));
+        return log;
+    }
+
+    public List<RecoveredJob> getRecoveredJobs() {
+        return recovered;
+    }
+
+    public void jobStarted(Job job, long pointsThrown, long pointsInside, long nextIndex, long nextSegment) {
+        OptionalLong seed = job.getSeed();
+        append("J " + job.getId() + " " + job.getSamplingMode() + " " + (seed.isPresent() ? 1 : 0) + " " + seed.orElse(0) + " "
+                + job.getScramble() + " " + job.getTotalPoints() + " " + pointsThrown + " " + pointsInside + " " + nextIndex + " " + nextSegment);
+    }
+
+    public void chunkClaimed(long jobId, long firstIndex, long points, long segment) {
+        append("C " + jobId + " " + firstIndex + " " + points + " " + segment);
+    }
+
+    public void chunkCompleted(long jobId, long firstIndex, long pointsInside) {
+        append("D " + jobId + " " + firstIndex + " " + pointsInside);
+    }
+
+    public void jobFinished(long jobId) {
+        append("F " + jobId);
+    }
+
+    private synchronized void append(String line) {
+        pending.append(line).append('\n');
+    }
+
+    // append se llama dentro de los metodos sincronizados de Job, asi que el fsync no puede hacerse con el mismo
+    // lock: solo el cambio de buffer lo toma. writeLock ordena a los escritores (hilo periodico y cierre) para que
+    // los lotes lleguen al archivo en orden.
+    private void sync() {
+        synchronized (writeLock) {
+            StringBuilder lines;
+            synchronized (this) {
+                if (pending.length() == 0) {
+                    return;
+                }
+                lines = pending;
+                pending = new StringBuilder();
+            }
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                Log.error("Error al escribir el punto de control: " + e.getMessage());
+            }
+        }
+    }
+
+    // Un trabajo cuya cabecera no se puede leer se descarta.
+    private RecoveredJob restore(List<String> lines) {
+        String[] header = lines.get(0).split(" ");
+        Job job;
+        long pointsThrown;
+        long pointsInside;
+        long nextIndex;
+        long nextSegment;
+        try {
+            OptionalLong seed = header[3].equals("1") ? OptionalLong.of(Long.parseLong(header[4])) : OptionalLong.empty();
+            job = new Job(Long.parseLong(header[1]), Long.parseLong(header[6]), seed, SamplingMode.valueOf(header[2]), Long.parseLong(header[5]));
+            pointsThrown = Long.parseLong(header[7]);
+            pointsInside = Long.parseLong(header[8]);
+            nextIndex = Long.parseLong(header[9]);
+            nextSegment = Long.parseLong(header[10]);
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        Map<Long, long[]> claims = new LinkedHashMap<>();
+        Map<Long, Long> completed = new HashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(" ");
+            try {
+                if (fields[0].equals("C")) {
+                    long firstIndex = Long.parseLong(fields[2]);
+                    claims.put(firstIndex, new long[] {firstIndex, Long.parseLong(fields[3]), Long.parseLong(fields[4])});
+                } else if (fields[0].equals("D")) {
+                    completed.put(Long.parseLong(fields[2]), Long.parseLong(fields[3]));
+                }
+            } catch (RuntimeException e) {
+                // Linea danada; si era un bloque, se vuelve a calcular.
+            }
+        }
+
+        long claimedPoints = 0;
+        for (long[] claim : claims.values()) {
+            claimedPoints += claim[1];
+        }
+        List<WorkUnit> units = job.restore(this, pointsThrown, pointsInside, nextIndex, nextSegment, new ArrayList<>(claims.values()), completed);
+        return new RecoveredJob(job, units, Math.max(0, job.getTotalPoints() - pointsThrown - claimedPoints));
+    }
+
+    public static final class RecoveredJob {
+        private final Job job;
+        private final List<WorkUnit> pendingUnits;
+        private final long unclaimedPoints;
+
+        RecoveredJob(Job job, List<WorkUnit> pendingUnits, long unclaimedPoints) {
+            this.job = job;
+            this.pendingUnits = pendingUnits;
+            this.unclaimedPoints = unclaimedPoints;
+        }
+
+        public Job getJob() {
+            return job;
+        }
+
+        // Bloques reservados antes de la caida que no alcanzaron a terminar; conservan indices y subflujo.
+        public List<WorkUnit> getPendingUnits() {
+            return pendingUnits;
+        }
+
+        public long getUnclaimedPoints() {
+            return unclaimedPoints;
+        }
+    }
+}
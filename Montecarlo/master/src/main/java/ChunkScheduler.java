@@ -0,0 +1,220 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import Demo.ProgressListenerPrx;
+import Demo.SamplingMode;
+import Demo.WorkUnit;
+import Demo.WorkerPrx;
+
+public class ChunkScheduler implements WorkerDispatch {
+
+    private static final int CHUNKS_PER_WORKER = 8;
+    private static final long MIN_CHUNK_SIZE = 100000;
+    // Unos dos segundos de muestreo en un nucleo: perder un worker cuesta poco y el reparto sigue equilibrando.
+    private static final long MAX_CHUNK_SIZE = 1L << 28;
+
+    private final Job job;
+    private final long points;
+    private final long chunkSize;
+    private final ProgressListenerPrx progressListener;
+    private final MasterMetrics metrics;
+    private final WorkerThroughput throughput;
+    private final CompletableFuture<Job> result = new CompletableFuture<>();
+    private final Map<WorkerPrx, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+    private final Set<WorkerPrx> abandoned = ConcurrentHashMap.newKeySet();
+    // Estado compartido entre carriles; solo se toca dentro de synchronized y nunca durante una invocacion.
+    private final Deque<WorkUnit> retries = new ArrayDeque<>();
+    private final Deque<WorkerPrx> idleWorkers = new ArrayDeque<>();
+    private List<WorkerPrx> workers;
+    private long nextPoint;
+    private int liveWorkers;
+    private int chunksInFlight;
+
+    public ChunkScheduler(Job job, long points, long chunkSize, ProgressListenerPrx progressListener, MasterMetrics metrics,
+            WorkerThroughput throughput) {
+        this.job = job;
+        this.points = points;
+        this.chunkSize = job.alignChunkSize(chunkSize);
+        this.progressListener = progressListener;
+        this.metrics = metrics;
+        this.throughput = throughput;
+    }
+
+    // Bloques ya reservados que deben repetirse antes de reservar nuevos, por ejemplo al retomar un punto de control.
+    public synchronized void requeue(List<WorkUnit> units) {
+        retries.addAll(units);
+    }
+
+    public synchronized int getChunksInFlight() {
+        return chunksInFlight;
+    }
+
+    public synchronized int getQueuedChunks() {
+        return retries.size();
+    }
+
+    // Lo que falta de un reparto que se quedo sin workers: los bloques por repetir y los puntos sin reservar.
+    public synchronized CheckpointLog.RecoveredJob getRemaining() {
+        return new CheckpointLog.RecoveredJob(job, new ArrayList<>(retries), points - nextPoint);
+    }
+
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    // La reticula cuesta una raiz por fila y no por punto; sus bloques no tienen tope.
+    public static long chunkSizeFor(long totalPoints, int numWorkers, SamplingMode mode) {
+        long numChunks = (long) numWorkers * CHUNKS_PER_WORKER;
+        long size = (totalPoints + numChunks - 1) / numChunks;
+        if (mode != SamplingMode.Grid) {
+            size = Math.min(MAX_CHUNK_SIZE, size);
+        }
+        return Math.max(MIN_CHUNK_SIZE, size);
+    }
+
+    public CompletableFuture<Job> dispatch(List<WorkerPrx> workers) {
+        if (workers.isEmpty()) {
+            result.completeExceptionally(new IllegalStateException("No hay workers disponibles"));
+            return result;
+        }
+        synchronized (this) {
+            this.workers = workers;
+            liveWorkers = workers.size();
+        }
+        for (WorkerPrx worker : workers) {
+            dispatchNext(worker);
+        }
+        return result;
+    }
+
+    // Cada worker pide un nuevo bloque apenas termina el anterior, asi los mas rapidos procesan mas bloques.
+    private void dispatchNext(WorkerPrx worker) {
+        WorkUnit chunk;
+        synchronized (this) {
+            if (abandoned.contains(worker)) {
+                stopLane(new IllegalStateException("No quedan workers disponibles"));
+                return;
+            }
+            chunk = job.isCancelled() ? null : claimChunk(worker);
+            if (chunk == null) {
+                // Queda en espera por si otro worker falla y hay que repetir alguno de sus bloques.
+                idleWorkers.add(worker);
+                completeIfDone();
+                return;
+            }
+            chunksInFlight++;
+        }
+
+        WorkUnit unit = chunk.clone();
+        long chunkId = job.nextChunkId();
+        unit.chunkId = chunkId;
+        long sent = System.nanoTime();
+        CompletableFuture<Long> call = worker.countPointsInCircleAsync(unit, ProgressListenerI.forWorker(progressListener, worker));
+        metrics.dispatched(System.nanoTime() - sent);
+        inFlight.put(worker, call);
+        call.whenComplete((inside, ex) -> {
+            inFlight.remove(worker, call);
+            if (ex != null) {
+                metrics.failed();
+                reassign(chunkId, chunk, ex);
+                return;
+            }
+            long elapsed = System.nanoTime() - sent;
+            metrics.completed(worker, chunk.numPoints, elapsed);
+            throughput.record(worker, chunk.numPoints, elapsed);
+            // Un bloque interrumpido por cancelacion solo cuenta con lo que ya habia reportado.
+            if (!job.isCancelled()) {
+                job.completeChunk(unit, inside);
+            }
+            synchronized (this) {
+                chunksInFlight--;
+            }
+            dispatchNext(worker);
+        });
+        if (abandoned.contains(worker)) {
+            call.cancel(false);
+        }
+    }
+
+    // Llamado cuando el worker sale del registro; un worker colgado no liberaria nunca su bloque.
+    public void abandon(WorkerPrx worker) {
+        synchronized (this) {
+            abandoned.add(worker);
+            if (idleWorkers.remove(worker)) {
+                stopLane(new IllegalStateException("No quedan workers disponibles"));
+            }
+        }
+        CompletableFuture<Long> call = inFlight.get(worker);
+        if (call != null) {
+            call.cancel(false);
+        }
+    }
+
+    // El worker que falla deja de recibir bloques; su bloque vuelve a la cola para los demas.
+    private void reassign(long chunkId, WorkUnit chunk, Throwable ex) {
+        job.abandonChunk(chunkId);
+        Log.warn("Bloque %d del trabajo %d fallo (%s); se reasignan %d puntos.", chunkId, job.getId(), ex.getClass().getSimpleName(), chunk.numPoints);
+
+        WorkerPrx idle;
+        synchronized (this) {
+            chunksInFlight--;
+            if (!job.isCancelled()) {
+                // El reintento conserva su subflujo e indices para que el resultado con semilla no cambie.
+                retries.add(chunk);
+            }
+            stopLane(ex);
+            idle = idleWorkers.poll();
+            if (idle == null) {
+                // Los workers ocupados tomaran el bloque al terminar el suyo.
+                return;
+            }
+        }
+        dispatchNext(idle);
+    }
+
+    // Se llama con el lock tomado. Sin carriles vivos, el trabajo solo termina bien si no queda nada pendiente.
+    private void stopLane(Throwable cause) {
+        liveWorkers--;
+        if (liveWorkers == 0 && !job.isCancelled() && (!retries.isEmpty() || nextPoint < points)) {
+            result.completeExceptionally(cause);
+        }
+        completeIfDone();
+    }
+
+    // El tamano base es el de un worker promedio; cada worker recibe bloques proporcionales a su ritmo, asi
+    // todos tardan lo mismo por bloque. Al final ningun bloque supera la parte del resto que le toca al worker,
+    // para que todos terminen a la vez.
+    private WorkUnit claimChunk(WorkerPrx worker) {
+        WorkUnit retry = retries.poll();
+        if (retry != null) {
+            return retry;
+        }
+        long remaining = points - nextPoint;
+        List<WorkerPrx> group = new ArrayList<>();
+        for (WorkerPrx candidate : workers) {
+            if (!abandoned.contains(candidate)) {
+                group.add(candidate);
+            }
+        }
+        double share = throughput.shareOf(worker, group.isEmpty() ? workers : group);
+        long size = Math.min((long) (chunkSize * group.size() * share), (long) Math.ceil(remaining * share));
+        long claimed = Math.min(job.alignChunkSize(Math.max(MIN_CHUNK_SIZE, size)), remaining);
+        if (claimed == 0) {
+            return null;
+        }
+        nextPoint += claimed;
+        return job.claimUnit(claimed);
+    }
+
+    private void completeIfDone() {
+        if (chunksInFlight == 0 && (job.isCancelled() || (retries.isEmpty() && nextPoint == points))) {
+            result.complete(job);
+        }
+    }
+}
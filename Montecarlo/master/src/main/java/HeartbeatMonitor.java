@@ -0,0 +1,100 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import Demo.WorkerPrx;
+
+public class HeartbeatMonitor {
+
+    private final Map<String, WorkerPrx> workers;
+    private final Map<String, Health> health = new ConcurrentHashMap<>();
+    private final int timeoutMillis;
+    private final int maxFailures;
+    private final BiConsumer<String, WorkerPrx> onRemoved;
+    private final MasterMetrics metrics;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HeartbeatMonitor(Map<String, WorkerPrx> workers, int timeoutMillis, int maxFailures, BiConsumer<String, WorkerPrx> onRemoved, MasterMetrics metrics) {
+        this.workers = workers;
+        this.timeoutMillis = timeoutMillis;
+        this.maxFailures = maxFailures;
+        this.onRemoved = onRemoved;
+        this.metrics = metrics;
+    }
+
+    // Un intervalo de 0 desactiva el monitor: los workers no se vigilan ni se eliminan.
+    public void start(long intervalMillis) {
+        if (intervalMillis <= 0) {
+            return;
+        }
+        executor.scheduleAtFixedRate(this::checkWorkers, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // Un reporte de progreso prueba que el worker sigue vivo aunque su ping se haya demorado; mientras reporte,
+    // no acumula fallos.
+    public void alive(String name) {
+        Health state = health.get(name);
+        if (state != null) {
+            state.failures.set(0);
+        }
+    }
+
+    // Solo envia pings asincronos; el hilo del monitor nunca espera a un worker.
+    private void checkWorkers() {
+        health.keySet().retainAll(workers.keySet());
+        for (Map.Entry<String, WorkerPrx> entry : workers.entrySet()) {
+            Health state = health.compute(entry.getKey(),
+                    (name, previous) -> previous != null && previous.worker == entry.getValue() ? previous : new Health(entry.getValue()));
+            // Un worker que no ha contestado el ping anterior no recibe otro hasta que venza el timeout.
+            if (state.pending.compareAndSet(false, true)) {
+                long sent = System.nanoTime();
+                state.timedWorker.pingAsync().whenComplete((result, ex) -> onReply(entry.getKey(), state, System.nanoTime() - sent, ex));
+            }
+        }
+    }
+
+    private void onReply(String name, Health state, long rttNanos, Throwable ex) {
+        state.pending.set(false);
+        if (ex == null) {
+            state.failures.set(0);
+            metrics.heartbeat(rttNanos);
+            return;
+        }
+
+        metrics.heartbeatFailed(name);
+        int failures = state.failures.incrementAndGet();
+        Log.warn(name + " no responde (" + failures + "/" + maxFailures + ").");
+        // Solo se elimina el proxy comprobado; un worker re-registrado con el mismo nombre se conserva.
+        if (failures >= maxFailures && workers.remove(name, state.worker)) {
+            health.remove(name, state);
+            Log.info("Worker " + name + " eliminado.");
+            metrics.workerRemoved();
+            onRemoved.accept(name, state.worker);
+        }
+    }
+
+    private class Health {
+        private final WorkerPrx worker;
+        private final WorkerPrx timedWorker;
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        private Health(WorkerPrx worker) {
+            this.worker = worker;
+            this.timedWorker = worker.ice_invocationTimeout(timeoutMillis);
+        }
+    }
+}
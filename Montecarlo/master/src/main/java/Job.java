@@ -0,0 +1,271 @@
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import Demo.JobProgress;
+import Demo.SamplingMode;
+import Demo.WorkUnit;
+
+public class Job {
+
+    private static final double Z_95 = 1.959963984540054;
+    // Con K <= 2^30 el (2K)^2 de GridSampler cabe en un long; son hasta 2^60 puntos por trabajo.
+    private static final long MAX_RESOLUTION = 1L << 30;
+
+    private final long id;
+    private volatile long totalPoints;
+    private final Map<Long, long[]> chunksInProgress = new HashMap<>();
+    private final Set<Long> closedChunks = new HashSet<>();
+    private final AtomicLong nextChunkId = new AtomicLong();
+    private final AtomicLong nextIndex = new AtomicLong();
+    private long completedPoints;
+    private long completedInside;
+    private volatile boolean cancelled;
+    private final SamplingMode samplingMode;
+    private final long resolution;
+    // Aleatorizacion comun a todos los bloques de una secuencia de baja discrepancia.
+    private final long scramble;
+    // Solo existe en trabajos pseudoaleatorios con semilla; avanza un salto por cada segmento entregado.
+    private Xoshiro256PlusPlus streamCursor;
+    private long nextSegment;
+    private final OptionalLong seed;
+    private final boolean reproducible;
+    private CheckpointLog checkpoint;
+
+    public Job(long id, long totalPoints, OptionalLong seed, SamplingMode samplingMode) {
+        this(id, totalPoints, seed, samplingMode,
+                seed.isPresent() ? new SplittableRandom(seed.getAsLong()).nextLong() : ThreadLocalRandom.current().nextLong());
+    }
+
+    public Job(long id, long totalPoints, OptionalLong seed, SamplingMode samplingMode, long scramble) {
+        this.id = id;
+        this.seed = seed;
+        this.samplingMode = samplingMode;
+        // Estratificado y reticula usan un punto por celda de una reticula K x K; lo que no la completa se descarta.
+        boolean onGrid = samplingMode == SamplingMode.Stratified || samplingMode == SamplingMode.Grid;
+        this.resolution = onGrid ? Math.min(MAX_RESOLUTION, IntMath.floorSqrt(totalPoints)) : 0;
+        this.totalPoints = onGrid ? resolution * resolution : totalPoints;
+        // Los muestreadores de reticula no usan la aleatorizacion; fijarla en 0 deja que un trabajo Grid sin semilla
+        // comparta cache con sus repeticiones.
+        this.scramble = onGrid ? 0 : scramble;
+        boolean pseudoRandom = samplingMode == SamplingMode.Uniform || samplingMode == SamplingMode.Stratified
+                || samplingMode == SamplingMode.Antithetic;
+        this.streamCursor = seed.isPresent() && pseudoRandom ? new Xoshiro256PlusPlus(seed.getAsLong()) : null;
+        this.reproducible = seed.isPresent() || samplingMode == SamplingMode.Grid;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getTotalPoints() {
+        return totalPoints;
+    }
+
+    // Estratificado y reticula cubren una reticula fija; con mas puntos repetirian las mismas celdas.
+    public boolean isExtendable() {
+        return !cancelled && samplingMode != SamplingMode.Stratified && samplingMode != SamplingMode.Grid;
+    }
+
+    // Los nuevos puntos continuan los indices y subflujos del trabajo, asi no se repite ninguna muestra.
+    public synchronized void extend(long extraPoints) {
+        totalPoints = getPointsThrown() + extraPoints;
+    }
+
+    public SamplingMode getSamplingMode() {
+        return samplingMode;
+    }
+
+    public long getResolution() {
+        return resolution;
+    }
+
+    public long getScramble() {
+        return scramble;
+    }
+
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    public boolean usesSeededStream() {
+        return streamCursor != null;
+    }
+
+    // Con semilla los bloques cubren segmentos completos, asi el resultado no depende del tamano de bloque;
+    // en el antitetico un tamano par evita partir pares entre bloques.
+    public long alignChunkSize(long chunkSize) {
+        if (usesSeededStream()) {
+            return StreamSegments.alignChunkSize(chunkSize);
+        }
+        if (samplingMode == SamplingMode.Antithetic) {
+            return chunkSize + (chunkSize & 1);
+        }
+        return chunkSize;
+    }
+
+    // Reserva indices y subflujo para los proximos puntos; el identificador de bloque se asigna en cada envio,
+    // asi un reintento conserva los mismos puntos.
+    public synchronized WorkUnit claimUnit(long points) {
+        long segment = nextSegment;
+        long[] stream = claimStream(StreamSegments.segmentsFor(points));
+        long firstIndex = claimIndices(points);
+        if (checkpoint != null) {
+            checkpoint.chunkClaimed(id, firstIndex, points, segment);
+        }
+        return new WorkUnit(id, -1, points, stream, samplingMode, firstIndex, scramble, resolution, reproducible);
+    }
+
+    // Desde aqui cada reserva y cada bloque terminado quedan en el registro; la cabecera guarda lo acumulado hasta ahora.
+    public synchronized void enableCheckpoint(CheckpointLog checkpoint) {
+        this.checkpoint = checkpoint;
+        checkpoint.jobStarted(this, completedPoints, completedInside, nextIndex.get(), nextSegment);
+    }
+
+    // Reconstruye el trabajo tras un reinicio del master; devuelve los bloques reservados que no llegaron a terminar.
+    public synchronized List<WorkUnit> restore(CheckpointLog checkpoint, long pointsThrown, long pointsInside, long firstIndex, long firstSegment,
+            List<long[]> claims, Map<Long, Long> completed) {
+        this.checkpoint = checkpoint;
+        completedPoints = pointsThrown;
+        completedInside = pointsInside;
+        long lastIndex = firstIndex;
+        long lastSegment = firstSegment;
+        List<WorkUnit> pending = new ArrayList<>();
+        for (long[] claim : claims) {
+            Long inside = completed.get(claim[0]);
+            if (inside != null) {
+                completedPoints += claim[1];
+                completedInside += inside;
+            } else {
+                pending.add(new WorkUnit(id, -1, claim[1], streamAt(claim[2]), samplingMode, claim[0], scramble, resolution, reproducible));
+            }
+            lastIndex = Math.max(lastIndex, claim[0] + claim[1]);
+            lastSegment = Math.max(lastSegment, claim[2] + StreamSegments.segmentsFor(claim[1]));
+        }
+        nextIndex.set(lastIndex);
+        nextSegment = lastSegment;
+        if (streamCursor != null) {
+            streamCursor = new Xoshiro256PlusPlus(streamAt(lastSegment));
+        }
+        return pending;
+    }
+
+    private long[] streamAt(long segment) {
+        if (streamCursor == null) {
+            return new long[0];
+        }
+        Xoshiro256PlusPlus cursor = new Xoshiro256PlusPlus(seed.getAsLong());
+        for (long i = 0; i < segment; i++) {
+            cursor.jump();
+        }
+        return cursor.getState();
+    }
+
+    public synchronized boolean hasCheckpoint() {
+        return checkpoint != null;
+    }
+
+    public synchronized void closeCheckpoint() {
+        if (checkpoint != null) {
+            checkpoint.jobFinished(id);
+            checkpoint = null;
+        }
+    }
+
+    // Los indices de la secuencia continuan entre rondas, asi ningun punto se repite.
+    private long claimIndices(long points) {
+        return nextIndex.getAndAdd(points);
+    }
+
+    // Devuelve el estado inicial de los proximos segmentos; los bloques nunca comparten subflujo.
+    private long[] claimStream(long segments) {
+        if (streamCursor == null) {
+            return new long[0];
+        }
+        long[] state = streamCursor.getState();
+        for (long i = 0; i < segments; i++) {
+            streamCursor.jump();
+        }
+        nextSegment += segments;
+        return state;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public long nextChunkId() {
+        return nextChunkId.getAndIncrement();
+    }
+
+    // Los reportes parciales pueden llegar desordenados o despues del resultado final del bloque.
+    public synchronized void reportChunk(long chunkId, long pointsThrown, long pointsInside) {
+        if (closedChunks.contains(chunkId)) {
+            return;
+        }
+        long[] previous = chunksInProgress.get(chunkId);
+        if (previous == null || previous[0] < pointsThrown) {
+            chunksInProgress.put(chunkId, new long[] {pointsThrown, pointsInside});
+        }
+    }
+
+    public synchronized void completeChunk(WorkUnit unit, long pointsInside) {
+        chunksInProgress.remove(unit.chunkId);
+        closedChunks.add(unit.chunkId);
+        completedPoints += unit.numPoints;
+        completedInside += pointsInside;
+        if (checkpoint != null) {
+            checkpoint.chunkCompleted(id, unit.firstIndex, pointsInside);
+        }
+    }
+
+    // Un bloque fallido se repite en otro worker; sus reportes tardios ya no deben contarse.
+    public synchronized void abandonChunk(long chunkId) {
+        chunksInProgress.remove(chunkId);
+        closedChunks.add(chunkId);
+    }
+
+    public synchronized long getPointsThrown() {
+        long pointsThrown = completedPoints;
+        for (long[] progress : chunksInProgress.values()) {
+            pointsThrown += progress[0];
+        }
+        return pointsThrown;
+    }
+
+    public synchronized long getPointsInside() {
+        long pointsInside = completedInside;
+        for (long[] progress : chunksInProgress.values()) {
+            pointsInside += progress[1];
+        }
+        return pointsInside;
+    }
+
+    public JobProgress getProgress() {
+        return getProgress(Z_95);
+    }
+
+    public synchronized JobProgress getProgress(double z) {
+        long pointsThrown = getPointsThrown();
+        long pointsInside = getPointsInside();
+        double estimate = 0.0;
+        double halfWidth = 0.0;
+
+        if (pointsThrown > 0) {
+            estimate = 4.0 * pointsInside / pointsThrown;
+            halfWidth = Statistics.halfWidth(pointsInside, pointsThrown, z);
+        }
+        return new JobProgress(id, totalPoints, pointsThrown, pointsInside, estimate, halfWidth);
+    }
+}
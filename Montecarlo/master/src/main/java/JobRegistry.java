@@ -0,0 +1,70 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import Demo.SamplingMode;
+
+public class JobRegistry {
+
+    private final Map<Long, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong nextJobId = new AtomicLong();
+    // Trabajos terminados que aun se pueden refinar; se descarta el usado hace mas tiempo.
+    private final Map<Long, Job> retained;
+
+    public JobRegistry(int maxRetained) {
+        this.retained = new LinkedHashMap<Long, Job>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Job> eldest) {
+                return size() > maxRetained;
+            }
+        };
+    }
+
+    public Job create(long totalPoints) {
+        return create(totalPoints, OptionalLong.empty(), SamplingMode.Uniform);
+    }
+
+    public Job create(long totalPoints, OptionalLong seed, SamplingMode samplingMode) {
+        Job job = new Job(nextJobId.incrementAndGet(), totalPoints, seed, samplingMode);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    public Job get(long jobId) {
+        return jobs.get(jobId);
+    }
+
+    // Un trabajo recuperado de un punto de control conserva su identificador.
+    public void restore(Job job) {
+        jobs.put(job.getId(), job);
+        nextJobId.accumulateAndGet(job.getId(), Math::max);
+    }
+
+    public void finish(Job job) {
+        job.closeCheckpoint();
+        if (job.isExtendable()) {
+            synchronized (retained) {
+                retained.put(job.getId(), job);
+            }
+        }
+        jobs.remove(job.getId());
+    }
+
+    // Saca el trabajo de los conservados y lo vuelve a activar; dos refinamientos del mismo trabajo no se solapan.
+    public Job resume(long jobId) {
+        Job job;
+        synchronized (retained) {
+            job = retained.remove(jobId);
+        }
+        if (job != null) {
+            jobs.put(jobId, job);
+        }
+        return job;
+    }
+
+    public Job[] snapshot() {
+        return jobs.values().toArray(new Job[0]);
+    }
+}
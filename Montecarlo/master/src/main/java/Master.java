@@ -1,14 +1,62 @@
 public class Master {
     public static void main(String[] args) {
-        try (com.zeroc.Ice.Communicator communicator = com.zeroc.Ice.Util.initialize(args)) {
-            com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapterWithEndpoints("MasterAdapter", "default -p 10000");
-            com.zeroc.Ice.Object object = new MasterI();
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = com.zeroc.Ice.Util.createProperties(args, fileDefaults(args));
+        initData.properties.parseCommandLineOptions("Master", args);
+        Log.setLevel(initData.properties.getPropertyWithDefault("Master.LogLevel", "info"));
+        int port = initData.properties.getPropertyAsIntWithDefault("Master.Port", 10000);
+        String parent = initData.properties.getProperty("Master.Parent");
+        // Los calculos se despachan de forma asincrona, tambien los bloques que recibe un sub-master; unos pocos
+        // hilos bastan para reportes de progreso y consultas.
+        if (initData.properties.getProperty("Ice.ThreadPool.Server.SizeMax").isEmpty()) {
+            initData.properties.setProperty("Ice.ThreadPool.Server.SizeMax", "4");
+        }
+
+        try (com.zeroc.Ice.Communicator communicator = com.zeroc.Ice.Util.initialize(initData)) {
+            com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapterWithEndpoints("MasterAdapter", "default -p " + port);
+            MasterI object = new MasterI(adapter);
             adapter.add(object, com.zeroc.Ice.Util.stringToIdentity("Master"));
             adapter.activate();
             
             //connectToWorkers(communicator);
-            System.out.println("Master corriendo y escuchando en el puerto 10000...");
+            Log.info("Master corriendo y escuchando en el puerto " + port + "...");
+            if (!parent.isEmpty()) {
+                registerWithParent(communicator, adapter, object, parent);
+            }
+            MetricsEndpoint metrics = MetricsEndpoint.start(object.getMetrics(),
+                    initData.properties.getPropertyAsIntWithDefault("Master.Metrics.Port", 0));
             communicator.waitForShutdown();
+            object.close();
+            if (metrics != null) {
+                metrics.close();
+            }
+        }
+    }
+
+    // Ice borra una propiedad asignada a un valor vacio, asi que los archivos por defecto se fijan antes de leer los
+    // argumentos: --Master.Results.File= o --Master.Checkpoint.File= los quita y MasterI no abre el archivo.
+    private static com.zeroc.Ice.Properties fileDefaults(String[] args) {
+        com.zeroc.Ice.Properties given = com.zeroc.Ice.Util.createProperties(args);
+        given.parseCommandLineOptions("Master", args);
+        com.zeroc.Ice.Properties defaults = com.zeroc.Ice.Util.createProperties();
+        defaults.setProperty("Master.Results.File", "resultados.jsonl");
+        // Un sub-master no es dueno de trabajos; solo el master raiz guarda puntos de control por defecto.
+        if (given.getProperty("Master.Parent").isEmpty()) {
+            defaults.setProperty("Master.Checkpoint.File", "checkpoints.log");
+        }
+        return defaults;
+    }
+
+    // Con Master.Parent el master actua como sub-master: se registra en el padre como un worker mas.
+    private static void registerWithParent(com.zeroc.Ice.Communicator communicator, com.zeroc.Ice.ObjectAdapter adapter, MasterI master, String parentProxy) {
+        Demo.MasterPrx parent = Demo.MasterPrx.checkedCast(communicator.stringToProxy(parentProxy));
+        String name = communicator.getProperties().getPropertyWithDefault("Master.Name", "SubMaster" + (parent.getWorkerCount() + 1));
+        Demo.WorkerPrx facade = Demo.WorkerPrx.uncheckedCast(
+                adapter.add(new SubMasterI(name, master), com.zeroc.Ice.Util.stringToIdentity(name)));
+        if (parent.addWorker(name, facade)) {
+            Log.info(name + " registrado en el master padre.");
+        } else {
+            Log.error("El master padre ya tiene un worker llamado " + name + ".");
         }
     }
 }
@@ -1,56 +1,157 @@
-import java.util.HashMap;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
+import Demo.JobProgress;
+import Demo.JobResult;
+import Demo.JobSpec;
+import Demo.PrecisionResult;
+import Demo.ProgressListenerPrx;
+import Demo.SamplingMode;
+import Demo.WorkUnit;
+import Demo.WorkerInfo;
 import Demo.WorkerPrx;
 
 public class MasterI implements Demo.Master {
     
-    private final Map<String, WorkerPrx> workers = new HashMap<>();
-    private final float REAL_PI = 3.14159265358979323846f;
-    private final Timer timer;
-    private int currentAmount = 100; 
-    private ArrayList<Long> durations = new ArrayList<>();
-    private ArrayList<Float> errors = new ArrayList<>();
+    private final Map<String, WorkerPrx> workers = new ConcurrentHashMap<>();
+    private final Map<String, WorkerInfo> workerInfo = new ConcurrentHashMap<>();
+    private static final long PILOT_ROUND_POINTS = 1000000;
+    // Un worker sin ritmo medido se vuelve a consultar cada 2 s durante un minuto.
+    private static final int INFO_ATTEMPTS = 30;
+    private static final long INFO_RETRY_MILLIS = 2000;
+    // Las llamadas colocadas no tienen conexion; comparten una sola serie de prueba.
+    private static final Object LOCAL_SESSION = new Object();
 
-    public MasterI() {
-        timer = new Timer(true);
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                checkWorkersStatus();
+    private final double REAL_PI = Math.PI;
+    private final HeartbeatMonitor heartbeat;
+    private final Map<Object, TestSeries> testSeries = new ConcurrentHashMap<>();
+    private final JobRegistry jobs;
+    private final Set<WorkerDispatch> dispatches = ConcurrentHashMap.newKeySet();
+    private final ProgressListenerPrx progressListener;
+    private final ProgressRelay relay;
+    private final CheckpointLog checkpoint;
+    private final ResultsFile results;
+    private final long checkpointMinPoints;
+    private final int resumeDelayMillis;
+    private final AtomicBoolean resumeScheduled = new AtomicBoolean();
+    // Trabajos con punto de control que esperan workers: los recuperados al arrancar y los que se quedaron sin ellos.
+    private final Queue<CheckpointLog.RecoveredJob> unfinished = new ConcurrentLinkedQueue<>();
+    private final MasterMetrics metrics = new MasterMetrics(new MetricsRegistry());
+    private final WorkerThroughput throughput = new WorkerThroughput();
+
+    public MasterI(com.zeroc.Ice.ObjectAdapter adapter) {
+        com.zeroc.Ice.Properties properties = adapter.getCommunicator().getProperties();
+        jobs = new JobRegistry(properties.getPropertyAsIntWithDefault("Master.RetainedJobs", 64));
+        heartbeat = new HeartbeatMonitor(workers,
+                properties.getPropertyAsIntWithDefault("Master.Heartbeat.Timeout", 2000),
+                properties.getPropertyAsIntWithDefault("Master.Heartbeat.MaxFailures", 3),
+                this::abandonWorker, metrics);
+        // Los listeners de progreso atienden una identidad por worker (ProgressListenerI.forWorker).
+        adapter.addDefaultServant(new ProgressListenerI(jobs, heartbeat::alive), "MasterProgress");
+        progressListener = ProgressListenerPrx.uncheckedCast(adapter.createProxy(new com.zeroc.Ice.Identity("Master", "MasterProgress")));
+        relay = new ProgressRelay(properties.getPropertyAsIntWithDefault("Master.ProgressInterval", 1000), heartbeat::alive);
+        adapter.addDefaultServant(relay, "MasterRelay");
+        relay.setProxy(ProgressListenerPrx.uncheckedCast(adapter.createProxy(new com.zeroc.Ice.Identity("Master", "MasterRelay"))));
+        adapter.add(new StatsI(metrics.getRegistry()), com.zeroc.Ice.Util.stringToIdentity("Stats"));
+        registerGauges(metrics.getRegistry());
+
+        heartbeat.start(properties.getPropertyAsIntWithDefault("Master.Heartbeat.Interval", 500));
+
+        // Los archivos por defecto los fija Master.main; sin la propiedad no se abre ninguno.
+        results = openResults(properties.getProperty("Master.Results.File"));
+        checkpointMinPoints = properties.getPropertyAsIntWithDefault("Master.Checkpoint.MinPoints", 100000000);
+        resumeDelayMillis = properties.getPropertyAsIntWithDefault("Master.Checkpoint.ResumeDelay", 5000);
+        checkpoint = openCheckpoint(properties.getProperty("Master.Checkpoint.File"),
+                properties.getPropertyAsIntWithDefault("Master.Checkpoint.SyncInterval", 1000));
+        if (checkpoint != null) {
+            unfinished.addAll(checkpoint.getRecoveredJobs());
+        }
+    }
+
+    private void registerGauges(MetricsRegistry registry) {
+        registry.gauge("master_workers", "Workers registrados", workers::size);
+        registry.gauge("master_active_jobs", "Trabajos en curso", () -> jobs.snapshot().length);
+        registry.gauge("master_chunks_in_flight", "Invocaciones de bloques o lotes en curso",
+                () -> dispatches.stream().mapToInt(WorkerDispatch::getChunksInFlight).sum());
+        registry.gauge("master_queued_chunks", "Bloques fallidos esperando un worker libre",
+                () -> dispatches.stream().mapToInt(WorkerDispatch::getQueuedChunks).sum());
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics.getRegistry();
+    }
+
+    // Detiene el monitor y cierra el archivo de resultados; el registro de puntos de control se sincroniza al salir.
+    public void close() {
+        heartbeat.stop();
+        if (results != null) {
+            try {
+                results.close();
+            } catch (IOException e) {
+                Log.error("Error al cerrar el archivo de resultados: " + e.getMessage());
             }
-        }, 0, 500);
+        }
     }
 
-    private void checkWorkersStatus() {
-        synchronized (workers) {
-            for (String workerId : workers.keySet()) {
-                WorkerPrx worker = workers.get(workerId);
-                if (worker == null || !isWorkerAlive(worker, workerId)) {
-                    removeWorker(workerId, null);
-                }
+    private CheckpointLog openCheckpoint(String file, int syncIntervalMillis) {
+        if (file.isEmpty()) {
+            return null;
+        }
+        try {
+            CheckpointLog log = CheckpointLog.open(Paths.get(file), syncIntervalMillis);
+            for (CheckpointLog.RecoveredJob recovered : log.getRecoveredJobs()) {
+                jobs.restore(recovered.getJob());
+                Log.info("Trabajo %d recuperado del punto de control (%d de %d puntos).", recovered.getJob().getId(),
+                        recovered.getJob().getPointsThrown(), recovered.getJob().getTotalPoints());
             }
+            return log;
+        } catch (IOException e) {
+            Log.error("No se pudo abrir el registro de puntos de control: " + e.getMessage());
+            return null;
         }
     }
 
-    private boolean isWorkerAlive(WorkerPrx worker, String workerId) {
+    private ResultsFile openResults(String file) {
+        if (file.isEmpty()) {
+            return null;
+        }
         try {
-            worker.ping();
-            return true;
-        } catch (Exception e) {
-            System.out.println(workerId + " no responde.");
-            return false;
+            return ResultsFile.open(Paths.get(file));
+        } catch (IOException e) {
+            Log.error("No se pudo abrir el archivo de resultados: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Los trabajos recuperados esperan a que se registren workers; la espera deja llegar a varios antes de repartir.
+    // Si vuelven a quedarse sin workers, el siguiente registro programa otro intento.
+    private void resumeRecoveredJobs() {
+        resumeScheduled.set(false);
+        List<WorkerPrx> available = new ArrayList<>(workers.values());
+        CheckpointLog.RecoveredJob recovered;
+        while ((recovered = unfinished.poll()) != null) {
+            Job job = recovered.getJob();
+            ChunkScheduler scheduler = new ChunkScheduler(job, recovered.getUnclaimedPoints(),
+                    ChunkScheduler.chunkSizeFor(job.getTotalPoints(), Math.max(1, available.size()), job.getSamplingMode()), progressListener, metrics, throughput);
+            scheduler.requeue(recovered.getPendingUnits());
+            Log.info("Retomando el trabajo %d con %d trabajadores...", job.getId(), available.size());
+            long start = System.nanoTime();
+            dispatchResumable(job, scheduler, available).handle((done, ex) -> finishJob(job, start, ex));
         }
     }
 
@@ -58,152 +159,363 @@ public class MasterI implements Demo.Master {
         return workers.size();
     }
 
-    public float calculatePi(int numPoints, boolean isTest, com.zeroc.Ice.Current current) {
+    public CompletionStage<Double> calculatePiAsync(long numPoints, boolean isTest, OptionalLong seed, Optional<SamplingMode> mode, com.zeroc.Ice.Current current) {
 
         int numWorkers = workers.size();
         if (numWorkers == 0) {
-            System.out.println("No hay workers registrados para realizar la estimacion.");
-            return 0.0f;
+            Log.info("No hay workers registrados para realizar la estimacion.");
+            return CompletableFuture.completedFuture(0.0);
         }
 
-        if (numPoints != -1){
+        if (numPoints == -1) {
+            TestSeries series = testSeries.remove(sessionKey(current));
+            if (series != null) {
+                series.finish();
+            }
+            return CompletableFuture.completedFuture(0.0);
+        }
 
-            System.out.printf("Estimando pi con %d puntos y %d trabajadores...%n", numPoints, numWorkers);
-            int pointsPerWorker = numPoints / numWorkers;
-    
-            long startTime = System.nanoTime();  
-    
-            List<CompletableFuture<Integer>> futures = createWorkerTasks(pointsPerWorker);
-            int totalPointsInCircle = gatherResults(futures);
-    
-            long endTime = System.nanoTime(); 
-           
-    
-            if (totalPointsInCircle < 0) {
-                return 0.0f;
+        // El hilo de despacho queda libre; la respuesta se envia cuando termina el ultimo bloque.
+        Job job = jobs.create(numPoints, seed, mode.orElse(SamplingMode.Uniform));
+        TestSeries series = isTest ? testSeriesFor(current) : null;
+        if (seed.isPresent()) {
+            Log.info("Semilla del trabajo " + job.getId() + ": " + seed.getAsLong());
+        }
+        long start = System.nanoTime();
+        return startJob(job, job.getTotalPoints()).handle((done, ex) -> {
+            long duration = finish(job, start, ex);
+            if (ex != null) {
+                Log.error("Error al obtener resultados: " + ex.getMessage());
+                return 0.0;
             }
-    
-            float estimation =  4.0f * totalPointsInCircle / numPoints;
-            System.out.println("Estimacion final: "+ estimation);
-            System.out.println("--------------------------------------");
-    
+
+            if (job.isCancelled()) {
+                Log.info("Trabajo %d cancelado tras %d puntos.", job.getId(), job.getPointsThrown());
+            }
+            // getProgress devuelve 0 si el trabajo se cancelo antes de recibir algun bloque.
+            double estimation = job.getProgress().estimate;
+            Log.info("Estimacion final: "+ estimation);
+            Log.info("--------------------------------------");
+
             //calcular y añadir variables
-    
-            if (isTest){
-    
-                if (currentAmount == numPoints){
-                    long duration = endTime - startTime; 
-                    durations.add(duration);
-        
-                    float error = Math.abs(estimation - REAL_PI);
-                    errors.add(error);
-                } else {
-                    calculateResults(numWorkers);
-                    currentAmount = numPoints;
-                }
+
+            // Un trabajo cancelado no cubre su tamano y falsearia el promedio de la serie.
+            if (series != null && !job.isCancelled()){
+                series.record(job, duration, Math.abs(estimation - REAL_PI), numWorkers, getGroupInfo());
             }
             return estimation;
+        });
+    }
 
-        } else {
-            calculateResults(numWorkers);
-            currentAmount = 100;
-            return 0.0f;
+    // Todos los trabajos del lote viajan juntos: una sola invocacion por worker en lugar de una por bloque.
+    public CompletionStage<double[]> calculatePiBatchAsync(JobSpec[] specs, com.zeroc.Ice.Current current) {
+
+        int numWorkers = workers.size();
+        if (numWorkers == 0) {
+            Log.info("No hay workers registrados para realizar la estimacion.");
+            return CompletableFuture.completedFuture(new double[specs.length]);
+        }
+
+        List<Job> batch = new ArrayList<>();
+        long totalPoints = 0;
+        for (JobSpec spec : specs) {
+            Job job = jobs.create(spec.totalPoints, spec.seeded ? OptionalLong.of(spec.seed) : OptionalLong.empty(), spec.mode);
+            batch.add(job);
+            totalPoints += job.getTotalPoints();
+        }
+        Log.info("Estimando un lote de %d trabajos (%d puntos) con %d trabajadores...", batch.size(), totalPoints, numWorkers);
+
+        BatchDispatcher dispatcher = new BatchDispatcher(batch, progressListener, metrics, throughput);
+        dispatches.add(dispatcher);
+        long start = System.nanoTime();
+        return dispatcher.dispatch(new ArrayList<>(workers.values())).handle((done, ex) -> {
+            dispatches.remove(dispatcher);
+            double[] estimates = new double[batch.size()];
+            for (Job job : batch) {
+                finish(job, start, ex);
+            }
+            if (ex != null) {
+                Log.error("Error al obtener resultados: " + ex.getMessage());
+                return estimates;
+            }
+
+            for (int i = 0; i < estimates.length; i++) {
+                Job job = batch.get(i);
+                long pointsThrown = job.getPointsThrown();
+                estimates[i] = pointsThrown == 0 ? 0.0 : 4.0 * job.getPointsInside() / pointsThrown;
+            }
+            Log.info("Lote de " + estimates.length + " trabajos terminado.");
+            Log.info("--------------------------------------");
+            return estimates;
+        });
+    }
+
+    // Como calculatePi, pero el master conserva el trabajo y devuelve su identificador para refinarlo.
+    public CompletionStage<JobResult> runJobAsync(long numPoints, OptionalLong seed, Optional<SamplingMode> mode, com.zeroc.Ice.Current current) {
+
+        if (workers.isEmpty()) {
+            Log.info("No hay workers registrados para realizar la estimacion.");
+            return CompletableFuture.completedFuture(new JobResult(-1, 0, 0, 0));
+        }
+
+        Job job = jobs.create(numPoints, seed, mode.orElse(SamplingMode.Uniform));
+        if (seed.isPresent()) {
+            Log.info("Semilla del trabajo " + job.getId() + ": " + seed.getAsLong());
         }
+        long start = System.nanoTime();
+        return startJob(job, job.getTotalPoints()).handle((done, ex) -> finishJob(job, start, ex));
     }
 
-    private void calculateResults(int numWorkers){
-        long finalDuration = calculateDuration(durations);
-        float finalError = calculateError(errors);
-        writeResultsToFile(currentAmount, numWorkers, finalDuration, finalError);
-        durations.clear();
-        errors.clear();
+    public CompletionStage<JobResult> refineAsync(long jobId, long extraPoints, com.zeroc.Ice.Current current) {
+
+        if (workers.isEmpty()) {
+            Log.info("No hay workers registrados para realizar la estimacion.");
+            return CompletableFuture.completedFuture(new JobResult(-1, 0, 0, 0));
+        }
+        if (extraPoints <= 0) {
+            Log.info("Cantidad de puntos no valida.");
+            return CompletableFuture.completedFuture(new JobResult(-1, 0, 0, 0));
+        }
+        Job job = jobs.resume(jobId);
+        if (job == null) {
+            Log.info("El trabajo " + jobId + " no esta disponible para refinar.");
+            return CompletableFuture.completedFuture(new JobResult(-1, 0, 0, 0));
+        }
+
+        job.extend(extraPoints);
+        Log.info("Refinando el trabajo %d con %d puntos adicionales...", jobId, extraPoints);
+        long start = System.nanoTime();
+        return startJob(job, extraPoints).handle((done, ex) -> finishJob(job, start, ex));
     }
 
-    private long calculateDuration(ArrayList<Long> durations) {
-        durations.remove(0);
-        long sum = 0;
-        for (long duration : durations) {
-            sum += duration;
+    private CompletableFuture<Job> startJob(Job job, long points) {
+        if (checkpoint != null && job.getTotalPoints() >= checkpointMinPoints) {
+            job.enableCheckpoint(checkpoint);
         }
-        return sum / durations.size();
+        List<WorkerPrx> available = new ArrayList<>(workers.values());
+        ChunkScheduler scheduler = new ChunkScheduler(job, points, ChunkScheduler.chunkSizeFor(points, Math.max(1, available.size()), job.getSamplingMode()), progressListener, metrics, throughput);
+        Log.info("Estimando pi con %d puntos y %d trabajadores en bloques de %d puntos...", points, available.size(), scheduler.getChunkSize());
+        if (job.getSamplingMode() != SamplingMode.Uniform) {
+            Log.info("Muestreo del trabajo " + job.getId() + ": " + job.getSamplingMode());
+        }
+        return dispatchResumable(job, scheduler, available);
     }
-    
-    private float calculateError(ArrayList<Float> errors) {
-        errors.remove(0);
-        float sum = 0;
-        for (float error : errors) {
-            sum += error;
+
+    private JobResult finishJob(Job job, long start, Throwable ex) {
+        finish(job, start, ex);
+        if (ex != null) {
+            Log.error("Error al obtener resultados: " + ex.getMessage());
+            return new JobResult(-1, 0, 0, 0);
         }
-        return sum / errors.size();
+
+        JobProgress progress = job.getProgress();
+        Log.info("Estimacion final del trabajo " + job.getId() + ": " + progress.estimate + " (" + progress.pointsThrown + " puntos)");
+        Log.info("--------------------------------------");
+        return new JobResult(job.getId(), progress.estimate, progress.confidenceHalfWidth, progress.pointsThrown);
     }
 
-    private void writeResultsToFile(int numPoints, int numWorkers, long duration, float error) {
-        String filePath = "resultados.txt";
-        File file = new File(filePath);
+    private Object sessionKey(com.zeroc.Ice.Current current) {
+        return current == null || current.con == null ? LOCAL_SESSION : current.con;
+    }
 
-        try {
-            if (!file.exists()) {
-                file.createNewFile();
+    private TestSeries testSeriesFor(com.zeroc.Ice.Current current) {
+        Object key = sessionKey(current);
+        TestSeries series = testSeries.get(key);
+        if (series == null) {
+            series = testSeries.computeIfAbsent(key, k -> new TestSeries(results));
+            if (key != LOCAL_SESSION) {
+                // Si el cliente se desconecta sin cerrar la serie, se descarta.
+                current.con.setCloseCallback(con -> testSeries.remove(con));
             }
-        } catch (IOException e) {
-            System.err.println("Error al verificar/crear el archivo: " + e.getMessage());
-            return;
         }
+        return series;
+    }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file, true))) {
-            writer.write("Puntos: " + numPoints + ", Trabajadores: " + numWorkers + ", Tiempo: " + duration + " ns" + ", Error: " + error);
-            writer.newLine();
-        } catch (IOException e) {
-            System.err.println("Error al escribir en el archivo: " + e.getMessage());
+    public CompletionStage<PrecisionResult> calculatePiToPrecisionAsync(double targetError, double confidenceLevel, long maxPoints, com.zeroc.Ice.Current current) {
+
+        if (workers.isEmpty()) {
+            Log.info("No hay workers registrados para realizar la estimacion.");
+            return CompletableFuture.completedFuture(new PrecisionResult());
+        }
+        if (targetError <= 0 || confidenceLevel <= 0 || confidenceLevel >= 1 || maxPoints <= 0) {
+            Log.info("Parametros de precision no validos.");
+            return CompletableFuture.completedFuture(new PrecisionResult());
         }
-    }       
 
-    private List<CompletableFuture<Integer>> createWorkerTasks(int pointsPerWorker) {
-        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        double z = Statistics.normalQuantile(0.5 + confidenceLevel / 2);
+        Log.info("Estimando pi con error %.2e al %.2f%% de confianza (maximo %d puntos)...", targetError, confidenceLevel * 100, maxPoints);
 
-        for (Map.Entry<String, WorkerPrx> entry : workers.entrySet()) {
-            String workerName = entry.getKey();
-            WorkerPrx worker = entry.getValue();
-            System.out.println("Solicitando al worker " + workerName + " calcular " + pointsPerWorker + " puntos...");
-            CompletableFuture<Integer> future = worker.countPointsInCircleAsync(pointsPerWorker);
-            futures.add(future);
-        }
+        Job job = jobs.create(maxPoints);
+        long start = System.nanoTime();
+        return runPrecisionRound(job, Math.min(PILOT_ROUND_POINTS, maxPoints), targetError, z).handle((done, ex) -> {
+            finish(job, start, ex);
+            if (ex != null) {
+                Log.error("Error al obtener resultados: " + ex.getMessage());
+                return new PrecisionResult();
+            }
+
+            JobProgress progress = job.getProgress(z);
+            Log.info("Estimacion final: " + progress.estimate + " +/- " + progress.confidenceHalfWidth);
+            Log.info("--------------------------------------");
+            return new PrecisionResult(progress.estimate, progress.confidenceHalfWidth, progress.pointsThrown);
+        });
+    }
+
+    // Cada ronda se encadena a la anterior sin bloquear ningun hilo mientras los workers calculan.
+    private CompletableFuture<Job> runPrecisionRound(Job job, long roundPoints, double targetError, double z) {
+        List<WorkerPrx> available = new ArrayList<>(workers.values());
+        long chunkSize = ChunkScheduler.chunkSizeFor(roundPoints, Math.max(1, available.size()), job.getSamplingMode());
+        ChunkScheduler scheduler = new ChunkScheduler(job, roundPoints, chunkSize, progressListener, metrics, throughput);
+        return dispatch(scheduler, available).thenCompose(done -> {
+            long pointsThrown = job.getPointsThrown();
+            long pointsInside = job.getPointsInside();
+            double halfWidth = Statistics.halfWidth(pointsInside, pointsThrown, z);
+            Log.info("Ronda terminada: %d puntos, semiancho %.2e", pointsThrown, halfWidth);
+            if (job.isCancelled() || halfWidth <= targetError) {
+                return CompletableFuture.completedFuture(job);
+            }
 
-        return futures;
+            // La siguiente ronda cubre lo que falta segun la proporcion observada (al menos un 1% mas).
+            long required = Statistics.requiredPoints(pointsInside, pointsThrown, z, targetError);
+            long nextRound = Math.min(job.getTotalPoints() - pointsThrown, Math.max(required - pointsThrown, pointsThrown / 100));
+            if (nextRound <= 0) {
+                return CompletableFuture.completedFuture(job);
+            }
+            return runPrecisionRound(job, nextRound, targetError, z);
+        });
     }
     
-    private int gatherResults(List<CompletableFuture<Integer>> futures) {
-        int totalPointsInCircle = 0;
-        try {
-            CompletableFuture<Void> allOf = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-            allOf.get();
-            for (CompletableFuture<Integer> future : futures) {
-                totalPointsInCircle += future.get();
+
+    // La duracion se mide desde que empieza el reparto: un trabajo refinado o recuperado se creo mucho antes.
+    // Un trabajo que espera workers para retomarse no termina: sigue abierto en el registro y en el punto de control.
+    private long finish(Job job, long start, Throwable ex) {
+        long duration = System.nanoTime() - start;
+        if (!resumable(job, ex)) {
+            jobs.finish(job);
+            metrics.jobFinished(duration);
+        }
+        return duration;
+    }
+
+    // Solo un trabajo con punto de control que fallo sin ser cancelado se retoma despues.
+    private static boolean resumable(Job job, Throwable ex) {
+        return ex != null && job.hasCheckpoint() && !job.isCancelled();
+    }
+
+    // Si el reparto falla, lo que falta del trabajo queda en espera del siguiente worker que se registre.
+    private CompletableFuture<Job> dispatchResumable(Job job, ChunkScheduler scheduler, List<WorkerPrx> available) {
+        return dispatch(scheduler, available).whenComplete((done, ex) -> {
+            if (resumable(job, ex)) {
+                unfinished.add(scheduler.getRemaining());
+                Log.warn("El trabajo %d queda pendiente en el punto de control hasta que se registre un worker.", job.getId());
+            }
+        });
+    }
+
+    private CompletableFuture<Job> dispatch(ChunkScheduler scheduler, List<WorkerPrx> available) {
+        dispatches.add(scheduler);
+        return scheduler.dispatch(available).whenComplete((done, ex) -> dispatches.remove(scheduler));
+    }
+
+    // Entrada de SubMasterI: un bloque del master padre se reparte entre los workers de este master.
+    public CompletableFuture<Long> countUnit(WorkUnit unit, ProgressListenerPrx parentListener) {
+        UnitDispatcher dispatcher = new UnitDispatcher(unit, parentListener, relay, metrics, throughput);
+        dispatches.add(dispatcher);
+        return dispatcher.dispatch(new ArrayList<>(workers.values())).whenComplete((inside, ex) -> dispatches.remove(dispatcher));
+    }
+
+    // Lo que anuncia un sub-master al padre: la suma de sus workers. Generador o kernel distintos dentro del grupo quedan como "mixto".
+    public WorkerInfo getGroupInfo() {
+        WorkerInfo group = new WorkerInfo();
+        for (String name : workers.keySet()) {
+            WorkerInfo info = workerInfo.get(name);
+            if (info != null) {
+                group.cores += info.cores;
+                group.samplingThreads += info.samplingThreads;
+                group.rng = group.rng.isEmpty() || group.rng.equals(info.rng) ? info.rng : "mixto";
+                group.kernel = group.kernel.isEmpty() || group.kernel.equals(info.kernel) ? info.kernel : "mixto";
             }
+        }
+        group.pointsPerSecond = throughput.totalRate(new ArrayList<>(workers.values()));
+        return group;
+    }
 
-        } catch (InterruptedException | ExecutionException e) {
-            System.err.println("Error al obtener resultados: " + e.getMessage());
-            return -1;
+    // Los bloques en curso del worker eliminado se reparten entre los que siguen activos. Su ritmo y sus datos se
+    // olvidan con el; un worker que ya se re-registro con el mismo nombre conserva los suyos.
+    private void abandonWorker(String name, WorkerPrx worker) {
+        if (!workers.containsKey(name)) {
+            workerInfo.remove(name);
+            throughput.forget(worker);
+        }
+        for (WorkerDispatch dispatch : dispatches) {
+            dispatch.abandon(worker);
         }
-        return totalPointsInCircle;
     }
-    
+
+    public JobProgress[] getActiveJobs(com.zeroc.Ice.Current current) {
+        return Arrays.stream(jobs.snapshot()).map(Job::getProgress).toArray(JobProgress[]::new);
+    }
+
+    public boolean cancelJob(long jobId, com.zeroc.Ice.Current current) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            return false;
+        }
+        job.cancel();
+        Log.info("Cancelando trabajo " + jobId + "...");
+        // Un trabajo que esperaba workers no tiene reparto que lo cierre.
+        if (unfinished.removeIf(recovered -> recovered.getJob() == job)) {
+            jobs.finish(job);
+        }
+        return true;
+    }
 
     public boolean addWorker(String name, WorkerPrx w, com.zeroc.Ice.Current current) {
-        if (workers.containsKey(name)) {
+        if (workers.putIfAbsent(name, w) != null) {
             return false; 
         }
-        workers.put(name, w);
-        System.out.println(name + " registrado exitosamente.");
+        Log.info(name + " registrado exitosamente.");
+        if (w != null) {
+            queryInfo(name, w, INFO_ATTEMPTS);
+        }
+        if (!unfinished.isEmpty() && resumeScheduled.compareAndSet(false, true)) {
+            CompletableFuture.delayedExecutor(resumeDelayMillis, TimeUnit.MILLISECONDS).execute(this::resumeRecoveredJobs);
+        }
         return true; 
     }
 
+    // El ritmo que el worker midio al arrancar sirve de peso inicial hasta que termine bloques reales. Un sub-master
+    // recien registrado todavia no tiene workers y anuncia 0; se le vuelve a preguntar hasta que tenga un ritmo.
+    private void queryInfo(String name, WorkerPrx w, int attemptsLeft) {
+        w.getInfoAsync().whenComplete((info, ex) -> {
+            if (ex != null) {
+                Log.warn("No se pudo consultar el ritmo de %s: %s", name, ex);
+                return;
+            }
+            // La respuesta de un worker que ya se elimino no debe volver a registrar sus datos.
+            if (workers.get(name) != w) {
+                return;
+            }
+            workerInfo.put(name, info);
+            if (info.pointsPerSecond > 0 || attemptsLeft == INFO_ATTEMPTS) {
+                Log.info("%s: %d nucleos, %d hilos, %.0f puntos/s.", name, info.cores, info.samplingThreads, info.pointsPerSecond);
+            }
+            if (info.pointsPerSecond > 0) {
+                throughput.advertise(w, info.pointsPerSecond);
+            } else if (attemptsLeft > 1) {
+                CompletableFuture.delayedExecutor(INFO_RETRY_MILLIS, TimeUnit.MILLISECONDS).execute(() -> queryInfo(name, w, attemptsLeft - 1));
+            }
+        });
+    }
+
     public boolean removeWorker(String name, com.zeroc.Ice.Current current) {
-        if (workers.remove(name) != null) {
-            System.out.println("Worker " + name + " eliminado.");
+        WorkerPrx removed = workers.remove(name);
+        if (removed != null) {
+            Log.info("Worker " + name + " eliminado.");
+            abandonWorker(name, removed);
             return true;
         } else {
-            System.out.println("Worker " + name + " no encontrado.");
+            Log.info("Worker " + name + " no encontrado.");
             return false;
         }
     }
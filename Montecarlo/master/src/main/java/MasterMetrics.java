@@ -0,0 +1,68 @@
+import java.util.concurrent.atomic.LongAdder;
+
+import Demo.WorkerPrx;
+
+// Instrumentos del master que se actualizan en cada bloque o ping; el resto se registra como medidores en MasterI.
+public class MasterMetrics {
+
+    private final MetricsRegistry registry;
+    private final Histogram dispatchLatency;
+    private final Histogram gatherLatency;
+    private final Histogram jobDuration;
+    private final Histogram heartbeatRtt;
+    private final LongAdder chunkFailures;
+    private final LongAdder workersRemoved;
+
+    public MasterMetrics(MetricsRegistry registry) {
+        this.registry = registry;
+        dispatchLatency = registry.histogram("master_dispatch_latency_seconds", "Tiempo en enviar la invocacion de un bloque o lote");
+        gatherLatency = registry.histogram("master_gather_latency_seconds", "Tiempo desde el envio de un bloque o lote hasta su respuesta");
+        jobDuration = registry.histogram("master_job_duration_seconds", "Duracion de los trabajos terminados");
+        heartbeatRtt = registry.histogram("master_heartbeat_rtt_seconds", "Ida y vuelta de los pings a los workers");
+        chunkFailures = registry.counter("master_chunk_failures_total", "Bloques o lotes que fallaron y se reasignaron");
+        workersRemoved = registry.counter("master_workers_removed_total", "Workers eliminados por el monitor de latidos");
+    }
+
+    public MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    public void dispatched(long nanos) {
+        dispatchLatency.record(nanos);
+    }
+
+    // El ritmo por worker se calcula al exportar: puntos procesados sobre el tiempo con bloques en curso.
+    public void completed(WorkerPrx worker, long points, long nanos) {
+        gatherLatency.record(nanos);
+        String name = worker.ice_getIdentity().name;
+        LongAdder workerPoints = registry.counter("master_worker_points_total{worker=\"" + name + "\"}", "Puntos calculados por cada worker");
+        LongAdder workerBusy = registry.counter("master_worker_busy_nanoseconds_total{worker=\"" + name + "\"}", "Tiempo con bloques en curso por worker");
+        boolean first = workerPoints.sum() == 0;
+        workerPoints.add(points);
+        workerBusy.add(nanos);
+        if (first) {
+            registry.gauge("master_worker_points_per_second{worker=\"" + name + "\"}", "Puntos por segundo de cada worker",
+                    () -> workerBusy.sum() == 0 ? 0 : workerPoints.sum() * 1e9 / workerBusy.sum());
+        }
+    }
+
+    public void failed() {
+        chunkFailures.increment();
+    }
+
+    public void jobFinished(long durationNanos) {
+        jobDuration.record(durationNanos);
+    }
+
+    public void heartbeat(long rttNanos) {
+        heartbeatRtt.record(rttNanos);
+    }
+
+    public void heartbeatFailed(String worker) {
+        registry.counter("master_heartbeat_failures_total{worker=\"" + worker + "\"}", "Pings sin respuesta por worker").increment();
+    }
+
+    public void workerRemoved() {
+        workersRemoved.increment();
+    }
+}
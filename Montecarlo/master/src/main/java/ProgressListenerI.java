@@ -0,0 +1,32 @@
+import java.util.function.Consumer;
+
+import Demo.ProgressListenerPrx;
+import Demo.WorkerPrx;
+
+// Atiende todas las identidades de su categoria; cada worker recibe un proxy con su propio nombre, asi el master
+// sabe quien reporta y cuenta el reporte como latido.
+public class ProgressListenerI implements Demo.ProgressListener {
+
+    private final JobRegistry jobs;
+    private final Consumer<String> alive;
+
+    public ProgressListenerI(JobRegistry jobs, Consumer<String> alive) {
+        this.jobs = jobs;
+        this.alive = alive;
+    }
+
+    public static ProgressListenerPrx forWorker(ProgressListenerPrx listener, WorkerPrx worker) {
+        return ProgressListenerPrx.uncheckedCast(
+                listener.ice_identity(new com.zeroc.Ice.Identity(worker.ice_getIdentity().name, listener.ice_getIdentity().category)));
+    }
+
+    public boolean reportProgress(long jobId, long chunkId, long pointsThrown, long pointsInside, com.zeroc.Ice.Current current) {
+        alive.accept(current.id.name);
+        Job job = jobs.get(jobId);
+        if (job == null || job.isCancelled()) {
+            return false;
+        }
+        job.reportChunk(chunkId, pointsThrown, pointsInside);
+        return true;
+    }
+}
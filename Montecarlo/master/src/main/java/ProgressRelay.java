@@ -0,0 +1,50 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import Demo.ProgressListenerPrx;
+
+// Recibe el progreso de los tramos que un sub-master envia a sus workers y lo entrega al reparto que los creo.
+// Los ids de tramo son propios del sub-master; los del padre solo viajan en el reporte agregado.
+public class ProgressRelay implements Demo.ProgressListener {
+
+    private final Map<Long, UnitDispatcher> routes = new ConcurrentHashMap<>();
+    private final AtomicLong nextChunkId = new AtomicLong();
+    private final long intervalNanos;
+    private final Consumer<String> alive;
+    private ProgressListenerPrx proxy;
+
+    public ProgressRelay(long intervalMillis, Consumer<String> alive) {
+        this.intervalNanos = intervalMillis * 1000000L;
+        this.alive = alive;
+    }
+
+    public void setProxy(ProgressListenerPrx proxy) {
+        this.proxy = proxy;
+    }
+
+    public ProgressListenerPrx getProxy() {
+        return proxy;
+    }
+
+    public long open(UnitDispatcher dispatcher) {
+        long chunkId = nextChunkId.getAndIncrement();
+        routes.put(chunkId, dispatcher);
+        return chunkId;
+    }
+
+    public void close(long chunkId) {
+        routes.remove(chunkId);
+    }
+
+    // Un tramo ya cerrado no tiene a quien reportar; el worker termina por su cuenta.
+    public boolean reportProgress(long jobId, long chunkId, long pointsThrown, long pointsInside, com.zeroc.Ice.Current current) {
+        alive.accept(current.id.name);
+        UnitDispatcher dispatcher = routes.get(chunkId);
+        if (dispatcher == null) {
+            return true;
+        }
+        return dispatcher.report(chunkId, pointsThrown, pointsInside, intervalNanos);
+    }
+}
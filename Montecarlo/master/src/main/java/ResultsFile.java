@@ -0,0 +1,108 @@
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.OptionalLong;
+
+import Demo.SamplingMode;
+import Demo.WorkerInfo;
+
+// Resultados del modo de prueba en formato JSON lines: un objeto por linea y solo se agrega al final, asi
+// ResultsTool puede comparar corridas. El canal queda abierto mientras vive el master; cada linea se arma
+// en memoria y se escribe con una sola llamada.
+public class ResultsFile implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final String host;
+    private final String jvm;
+    private long lastRunMillis;
+
+    private ResultsFile(FileChannel channel) {
+        this.channel = channel;
+        this.host = hostName();
+        this.jvm = System.getProperty("java.vm.name") + " " + System.getProperty("java.version");
+    }
+
+    public static ResultsFile open(Path path) throws IOException {
+        return new ResultsFile(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    // Cada serie de pruebas es una corrida; el id es su hora de inicio y nunca se repite dentro del master.
+    public synchronized String newRunId() {
+        lastRunMillis = Math.max(lastRunMillis + 1, System.currentTimeMillis());
+        return Instant.ofEpochMilli(lastRunMillis).toString();
+    }
+
+    // Varios clientes pueden terminar sus series a la vez; las lineas no deben mezclarse.
+    public synchronized void append(String runId, long numPoints, int numWorkers, WorkerInfo group, SamplingMode mode, OptionalLong seed,
+            int samples, long meanNanos, double meanError) {
+        StringBuilder line = new StringBuilder(320).append('{');
+        field(line, "run", runId);
+        field(line, "time", Instant.now().toString());
+        field(line, "points", numPoints);
+        field(line, "workers", numWorkers);
+        field(line, "cores", group.cores);
+        field(line, "threads", group.samplingThreads);
+        field(line, "rng", group.rng);
+        field(line, "kernel", group.kernel);
+        field(line, "mode", mode.name());
+        field(line, "seed", seed.isPresent() ? seed.getAsLong() : null);
+        field(line, "samples", samples);
+        field(line, "meanNanos", meanNanos);
+        field(line, "error", meanError);
+        field(line, "host", host);
+        field(line, "jvm", jvm);
+        line.setCharAt(line.length() - 1, '}');
+        line.append('\n');
+
+        ByteBuffer buffer = ByteBuffer.wrap(line.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            Log.error("Error al escribir en el archivo de resultados: " + e.getMessage());
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static void field(StringBuilder line, String name, Object value) {
+        line.append('"').append(name).append("\":");
+        if (value instanceof String) {
+            quote(line, (String) value);
+        } else {
+            line.append(value);
+        }
+        line.append(',');
+    }
+
+    private static void quote(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "desconocido";
+        }
+    }
+}
@@ -0,0 +1,291 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Consulta el registro de resultados del modo de prueba:
+//   runs                         lista las corridas
+//   speedup [corrida...]         aceleracion y eficiencia por numero de workers
+//   compare <base> <nueva> [%]   compara dos corridas y marca regresiones (10% por defecto)
+// Lee resultados.jsonl salvo que se indique --file=<ruta>; tambien entiende el formato de texto de resultados.txt.
+public class ResultsTool {
+
+    private static final Pattern LEGACY_LINE = Pattern.compile("Puntos: (\\d+), Trabajadores: (\\d+), Tiempo: (\\d+) ns, Error: (\\S+)");
+
+    public static void main(String[] args) throws IOException {
+        String file = "resultados.jsonl";
+        List<String> command = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--file=")) {
+                file = arg.substring("--file=".length());
+            } else {
+                command.add(arg);
+            }
+        }
+        if (command.isEmpty()) {
+            usage();
+            return;
+        }
+
+        List<Result> results = load(file);
+        switch (command.get(0)) {
+            case "runs":
+                printRuns(results);
+                break;
+            case "speedup":
+                printSpeedup(results, command.subList(1, command.size()));
+                break;
+            case "compare":
+                if (command.size() < 3) {
+                    usage();
+                    return;
+                }
+                double threshold = command.size() > 3 ? Double.parseDouble(command.get(3)) : 10;
+                // El codigo de salida permite usar la comparacion en un script.
+                if (compare(results, command.get(1), command.get(2), threshold)) {
+                    System.exit(1);
+                }
+                break;
+            default:
+                usage();
+        }
+    }
+
+    private static void usage() {
+        System.out.println("Uso: ResultsTool [--file=resultados.jsonl] runs | speedup [corrida...] | compare <base> <nueva> [umbral %]");
+    }
+
+    private static void printRuns(List<Result> results) {
+        Map<String, List<Result>> runs = byRun(results);
+        System.out.printf("%-26s %8s %7s %8s  %s%n", "Corrida", "Workers", "Tamanos", "Nucleos", "Entorno");
+        for (Map.Entry<String, List<Result>> run : runs.entrySet()) {
+            Result first = run.getValue().get(0);
+            TreeSet<Integer> workers = new TreeSet<>();
+            for (Result result : run.getValue()) {
+                workers.add(result.workers);
+            }
+            String workerList = workers.size() == 1 ? workers.first().toString() : workers.toString();
+            System.out.printf("%-26s %8s %7d %8s  %s%n", run.getKey(), workerList, run.getValue().size(),
+                    first.get("cores", "-"), first.get("host", "-") + " " + first.get("rng", "") + " " + first.get("kernel", ""));
+        }
+    }
+
+    // Solo se comparan mediciones de la misma configuracion (modo, generador, kernel y host): mezclar, por ejemplo,
+    // una base escalar con una corrida vectorial daria una aceleracion que no viene de los workers. Por configuracion
+    // y tamano, la referencia es el menor numero de workers medido; con referencia en 1 worker es la definicion usual.
+    private static void printSpeedup(List<Result> results, List<String> selectedRuns) {
+        Map<String, Map<Long, TreeMap<Integer, Result>>> byConfiguration = new TreeMap<>();
+        for (Result result : results) {
+            if (selectedRuns.isEmpty() || selectedRuns.contains(result.run)) {
+                // Con varias mediciones de la misma configuracion, tamano y numero de workers se usa la mas reciente.
+                byConfiguration.computeIfAbsent(configuration(result), configuration -> new TreeMap<>())
+                        .computeIfAbsent(result.points, points -> new TreeMap<>()).put(result.workers, result);
+            }
+        }
+        for (Map.Entry<String, Map<Long, TreeMap<Integer, Result>>> configuration : byConfiguration.entrySet()) {
+            System.out.println("Configuracion: " + configuration.getKey());
+            System.out.printf("%12s %8s %14s %9s %11s  %s%n", "Puntos", "Workers", "Tiempo (ms)", "Speedup", "Eficiencia", "Corrida");
+            for (Map.Entry<Long, TreeMap<Integer, Result>> size : configuration.getValue().entrySet()) {
+                Map.Entry<Integer, Result> base = size.getValue().firstEntry();
+                for (Result result : size.getValue().values()) {
+                    double speedup = (double) base.getValue().meanNanos / result.meanNanos;
+                    double efficiency = speedup * base.getKey() / result.workers;
+                    System.out.printf("%12d %8d %14.3f %9.2f %10.0f%%  %s%n", size.getKey(), result.workers, result.meanNanos / 1e6, speedup,
+                            efficiency * 100, result.run);
+                }
+            }
+            System.out.println();
+        }
+    }
+
+    private static String configuration(Result result) {
+        return "modo=" + result.get("mode", "-") + " rng=" + result.get("rng", "-") + " kernel=" + result.get("kernel", "-")
+                + " host=" + result.get("host", "-");
+    }
+
+    // Compara los mismos tamanos y numeros de workers; una regresion es un tiempo mayor al umbral sobre la base.
+    private static boolean compare(List<Result> results, String baseRun, String newRun, double thresholdPercent) {
+        Map<String, Result> base = new HashMap<>();
+        Map<String, Result> candidate = new TreeMap<>();
+        for (Result result : results) {
+            String key = String.format("%019d/%05d", result.points, result.workers);
+            if (result.run.equals(baseRun)) {
+                base.put(key, result);
+            } else if (result.run.equals(newRun)) {
+                candidate.put(key, result);
+            }
+        }
+
+        boolean regression = false;
+        int compared = 0;
+        for (Map.Entry<String, Result> entry : candidate.entrySet()) {
+            Result before = base.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            Result after = entry.getValue();
+            double change = 100.0 * (after.meanNanos - before.meanNanos) / before.meanNanos;
+            boolean slower = change > thresholdPercent;
+            regression |= slower;
+            if (compared++ == 0) {
+                if (!configuration(before).equals(configuration(after))) {
+                    System.out.println("Aviso: las corridas tienen configuraciones distintas (" + configuration(before) + " frente a "
+                            + configuration(after) + "); el cambio no mide solo el codigo.");
+                }
+                System.out.printf("%12s %8s %12s %12s %9s%n", "Puntos", "Workers", "Base (ms)", "Nueva (ms)", "Cambio");
+            }
+            System.out.printf("%12d %8d %12.3f %12.3f %+8.1f%%%s%n", after.points, after.workers, before.meanNanos / 1e6, after.meanNanos / 1e6,
+                    change, slower ? "  REGRESION" : "");
+        }
+        if (compared == 0) {
+            System.out.println("Las corridas " + baseRun + " y " + newRun + " no tienen mediciones en comun.");
+        } else if (!regression) {
+            System.out.printf("Sin regresiones mayores al %.1f%%.%n", thresholdPercent);
+        }
+        return regression;
+    }
+
+    private static Map<String, List<Result>> byRun(List<Result> results) {
+        Map<String, List<Result>> runs = new LinkedHashMap<>();
+        for (Result result : results) {
+            runs.computeIfAbsent(result.run, run -> new ArrayList<>()).add(result);
+        }
+        return runs;
+    }
+
+    // En el formato de texto no hay ids de corrida: una corrida nueva empieza cuando el tamano vuelve a bajar
+    // o cambia el numero de workers.
+    private static List<Result> load(String file) throws IOException {
+        List<Result> results = new ArrayList<>();
+        int legacyRun = 0;
+        Result previous = null;
+        for (String line : Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8)) {
+            line = line.trim();
+            Result result;
+            if (line.startsWith("{")) {
+                result = new Result(parseObject(line));
+            } else {
+                Matcher matcher = LEGACY_LINE.matcher(line);
+                if (!matcher.find()) {
+                    continue;
+                }
+                Map<String, String> fields = new HashMap<>();
+                fields.put("points", matcher.group(1));
+                fields.put("workers", matcher.group(2));
+                fields.put("meanNanos", matcher.group(3));
+                fields.put("error", matcher.group(4));
+                if (previous == null || !previous.run.startsWith("txt-")
+                        || Long.parseLong(matcher.group(1)) <= previous.points || Integer.parseInt(matcher.group(2)) != previous.workers) {
+                    legacyRun++;
+                }
+                fields.put("run", "txt-" + legacyRun);
+                result = new Result(fields);
+            }
+            results.add(result);
+            previous = result;
+        }
+        return results;
+    }
+
+    // Basta para los objetos planos que escribe ResultsFile: cadenas, numeros, true, false y null.
+    private static Map<String, String> parseObject(String line) {
+        Map<String, String> fields = new HashMap<>();
+        int i = line.indexOf('{') + 1;
+        while (i < line.length()) {
+            i = skipSpaces(line, i);
+            if (line.charAt(i) == '}') {
+                break;
+            }
+            StringBuilder name = new StringBuilder();
+            i = readString(line, i, name);
+            i = skipSpaces(line, i) + 1;
+            i = skipSpaces(line, i);
+            String value;
+            if (line.charAt(i) == '"') {
+                StringBuilder text = new StringBuilder();
+                i = readString(line, i, text);
+                value = text.toString();
+            } else {
+                int end = i;
+                while (end < line.length() && line.charAt(end) != ',' && line.charAt(end) != '}') {
+                    end++;
+                }
+                value = line.substring(i, end).trim();
+                i = end;
+                if (value.equals("null")) {
+                    value = null;
+                }
+            }
+            fields.put(name.toString(), value);
+            i = skipSpaces(line, i);
+            if (i < line.length() && line.charAt(i) == ',') {
+                i++;
+            }
+        }
+        return fields;
+    }
+
+    private static int skipSpaces(String line, int i) {
+        while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    // Lee una cadena entre comillas a partir de i y devuelve la posicion siguiente a la comilla final.
+    private static int readString(String line, int i, StringBuilder out) {
+        for (i++; line.charAt(i) != '"'; i++) {
+            char c = line.charAt(i);
+            if (c == '\\') {
+                char escaped = line.charAt(++i);
+                switch (escaped) {
+                    case 'u':
+                        out.append((char) Integer.parseInt(line.substring(i + 1, i + 5), 16));
+                        i += 4;
+                        break;
+                    case 'n':
+                        out.append('\n');
+                        break;
+                    case 't':
+                        out.append('\t');
+                        break;
+                    default:
+                        out.append(escaped);
+                }
+            } else {
+                out.append(c);
+            }
+        }
+        return i + 1;
+    }
+
+    private static final class Result {
+        private final Map<String, String> fields;
+        private final String run;
+        private final long points;
+        private final int workers;
+        private final long meanNanos;
+
+        private Result(Map<String, String> fields) {
+            this.fields = fields;
+            this.run = get("run", "?");
+            this.points = Long.parseLong(fields.get("points"));
+            this.workers = Integer.parseInt(fields.get("workers"));
+            this.meanNanos = Long.parseLong(fields.get("meanNanos"));
+        }
+
+        private String get(String name, String fallback) {
+            String value = fields.get(name);
+            return value == null ? fallback : value;
+        }
+    }
+}
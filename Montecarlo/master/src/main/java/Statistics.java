@@ -0,0 +1,48 @@
+public final class Statistics {
+
+    private Statistics() {
+    }
+
+    // Semiancho del intervalo de confianza normal para pi = 4 * dentro / lanzados.
+    public static double halfWidth(long pointsInside, long pointsThrown, double z) {
+        if (pointsThrown == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double p = (double) pointsInside / pointsThrown;
+        return 4.0 * z * Math.sqrt(p * (1 - p) / pointsThrown);
+    }
+
+    public static long requiredPoints(long pointsInside, long pointsThrown, double z, double targetError) {
+        double p = (double) pointsInside / pointsThrown;
+        double points = Math.ceil(16.0 * z * z * p * (1 - p) / (targetError * targetError));
+        return points >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) points;
+    }
+
+    // Cuantil de la normal estandar (aproximacion racional de Acklam, error relativo < 1.2e-9).
+    public static double normalQuantile(double p) {
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        final double low = 0.02425;
+
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            double q = Math.sqrt(-2 * Math.log(1 - p));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+}
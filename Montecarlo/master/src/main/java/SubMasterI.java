@@ -0,0 +1,52 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import Demo.ProgressListenerPrx;
+import Demo.WorkUnit;
+
+// Fachada con la que un master se registra como worker en un master padre. Cada bloque que recibe se reparte
+// entre sus propios workers y se responde con el conteo ya sumado, asi el padre ve un solo worker por grupo.
+public class SubMasterI implements Demo.Worker {
+
+    private final String name;
+    private final MasterI master;
+
+    public SubMasterI(String name, MasterI master) {
+        this.name = name;
+        this.master = master;
+    }
+
+    public String getName(com.zeroc.Ice.Current current) {
+        return name;
+    }
+
+    public void ping(com.zeroc.Ice.Current current) {
+
+    }
+
+    public Demo.WorkerInfo getInfo(com.zeroc.Ice.Current current) {
+        return master.getGroupInfo();
+    }
+
+    // La respuesta sale cuando terminan los workers del grupo; ningun hilo de despacho espera, asi los pings del
+    // padre se atienden aunque el sub-master este resolviendo muchos bloques.
+    public CompletionStage<Long> countPointsInCircleAsync(WorkUnit unit, ProgressListenerPrx listener, com.zeroc.Ice.Current current) {
+        return master.countUnit(unit, listener);
+    }
+
+    public CompletionStage<long[]> countPointsInCircleBatchAsync(WorkUnit[] units, ProgressListenerPrx listener, com.zeroc.Ice.Current current) {
+        List<CompletableFuture<Long>> calls = new ArrayList<>();
+        for (WorkUnit unit : units) {
+            calls.add(master.countUnit(unit, listener));
+        }
+        return CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            long[] counts = new long[units.length];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = calls.get(i).join();
+            }
+            return counts;
+        });
+    }
+}
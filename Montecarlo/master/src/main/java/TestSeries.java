@@ -0,0 +1,72 @@
+import java.util.ArrayList;
+import java.util.OptionalLong;
+
+import Demo.SamplingMode;
+import Demo.WorkerInfo;
+
+// Estadisticas del modo de prueba de un solo cliente; cada conexion acumula su propia serie.
+public class TestSeries {
+
+    private final ResultsFile results;
+    private final String runId;
+    private long currentAmount = 100;
+    private final ArrayList<Long> durations = new ArrayList<>();
+    private final ArrayList<Double> errors = new ArrayList<>();
+    // Contexto de la ultima medicion; se guarda junto con el promedio de su tamano.
+    private int numWorkers;
+    private WorkerInfo group;
+    private SamplingMode mode;
+    private OptionalLong seed;
+
+    public TestSeries(ResultsFile results) {
+        this.results = results;
+        this.runId = results == null ? "" : results.newRunId();
+    }
+
+    public synchronized void record(Job job, long duration, double error, int numWorkers, WorkerInfo group) {
+        if (currentAmount == job.getTotalPoints()) {
+            durations.add(duration);
+            errors.add(error);
+        } else {
+            flush();
+            currentAmount = job.getTotalPoints();
+        }
+        this.numWorkers = numWorkers;
+        this.group = group;
+        this.mode = job.getSamplingMode();
+        this.seed = job.getSeed();
+    }
+
+    public synchronized void finish() {
+        flush();
+        currentAmount = 100;
+    }
+
+    private void flush() {
+        // La primera medicion de cada serie se descarta como calentamiento.
+        if (durations.size() > 1 && results != null) {
+            long duration = calculateDuration();
+            results.append(runId, currentAmount, numWorkers, group, mode, seed, durations.size(), duration, calculateError());
+        }
+        durations.clear();
+        errors.clear();
+    }
+
+    private long calculateDuration() {
+        durations.remove(0);
+        long sum = 0;
+        for (long duration : durations) {
+            sum += duration;
+        }
+        return sum / durations.size();
+    }
+
+    private double calculateError() {
+        errors.remove(0);
+        double sum = 0;
+        for (double error : errors) {
+            sum += error;
+        }
+        return sum / errors.size();
+    }
+}
@@ -0,0 +1,182 @@
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import Demo.ProgressListenerPrx;
+import Demo.WorkUnit;
+import Demo.WorkerPrx;
+
+// Resuelve un bloque recibido del master padre repartiendolo entre los workers locales, un tramo por worker
+// segun su ritmo. Los tramos con semilla empiezan en un segmento, asi la suma coincide con la de un solo worker.
+public class UnitDispatcher implements WorkerDispatch {
+
+    private final WorkUnit unit;
+    private final ProgressListenerPrx parentListener;
+    private final ProgressRelay relay;
+    private final MasterMetrics metrics;
+    private final WorkerThroughput throughput;
+    private final CompletableFuture<Long> result = new CompletableFuture<>();
+    private final WorkerCalls<Long> calls = new WorkerCalls<>();
+    // Progreso acumulado de cada tramo; se indexa por el id de bloque que lleva el tramo en curso.
+    private final Map<Long, long[]> progress = new ConcurrentHashMap<>();
+    private List<WorkerPrx> workers;
+    private int pendingPieces;
+    private long pointsThrown;
+    private long pointsInside;
+    private long lastForward;
+    private volatile boolean cancelled;
+
+    public UnitDispatcher(WorkUnit unit, ProgressListenerPrx parentListener, ProgressRelay relay, MasterMetrics metrics, WorkerThroughput throughput) {
+        this.unit = unit;
+        this.parentListener = parentListener;
+        this.relay = relay;
+        this.metrics = metrics;
+        this.throughput = throughput;
+    }
+
+    public synchronized int getChunksInFlight() {
+        return pendingPieces;
+    }
+
+    public int getQueuedChunks() {
+        return 0;
+    }
+
+    public CompletableFuture<Long> dispatch(List<WorkerPrx> workers) {
+        if (workers.isEmpty()) {
+            result.completeExceptionally(new IllegalStateException("No hay workers disponibles"));
+            return result;
+        }
+        this.workers = workers;
+
+        WorkUnit[] pieces = split(workers);
+        synchronized (this) {
+            for (WorkUnit piece : pieces) {
+                if (piece != null) {
+                    pendingPieces++;
+                }
+            }
+        }
+        for (int i = 0; i < pieces.length; i++) {
+            if (pieces[i] != null) {
+                send(workers.get(i), pieces[i]);
+            }
+        }
+        return result;
+    }
+
+    // Los cortes caen en segmentos enteros con semilla y en indices pares sin ella, como dentro de un worker.
+    // Un worker queda sin tramo si su parte no alcanza para un corte.
+    private WorkUnit[] split(List<WorkerPrx> workers) {
+        boolean seeded = unit.stream.length > 0;
+        long step = seeded ? StreamSegments.SEGMENT_POINTS : 2;
+        WorkUnit[] pieces = new WorkUnit[workers.size()];
+        Xoshiro256PlusPlus cursor = seeded ? new Xoshiro256PlusPlus(unit.stream) : null;
+        double[] rates = throughput.ratesOf(workers);
+        double total = 0;
+        for (double rate : rates) {
+            total += rate;
+        }
+        double cumulative = 0;
+        long start = 0;
+        for (int i = 0; i < workers.size() && start < unit.numPoints; i++) {
+            cumulative += rates[i] / total;
+            long end = i == workers.size() - 1 ? unit.numPoints
+                    : Math.min(unit.numPoints, (long) (unit.numPoints * cumulative) / step * step);
+            if (end <= start) {
+                continue;
+            }
+            WorkUnit piece = unit.clone();
+            piece.numPoints = end - start;
+            piece.firstIndex = unit.firstIndex + start;
+            if (seeded) {
+                piece.stream = cursor.getState();
+                for (long s = 0; s < piece.numPoints / StreamSegments.SEGMENT_POINTS; s++) {
+                    cursor.jump();
+                }
+            }
+            pieces[i] = piece;
+            start = end;
+        }
+        return pieces;
+    }
+
+    private void send(WorkerPrx worker, WorkUnit piece) {
+        WorkUnit sent = piece.clone();
+        sent.chunkId = relay.open(this);
+        progress.put(sent.chunkId, new long[2]);
+
+        long started = System.nanoTime();
+        CompletableFuture<Long> call = worker.countPointsInCircleAsync(sent, ProgressListenerI.forWorker(relay.getProxy(), worker));
+        metrics.dispatched(System.nanoTime() - started);
+        call.whenComplete((inside, ex) -> {
+            relay.close(sent.chunkId);
+            if (ex != null) {
+                progress.remove(sent.chunkId);
+                metrics.failed();
+                reassign(worker, piece, ex);
+                return;
+            }
+            long elapsed = System.nanoTime() - started;
+            metrics.completed(worker, piece.numPoints, elapsed);
+            throughput.record(worker, piece.numPoints, elapsed);
+            synchronized (this) {
+                progress.remove(sent.chunkId);
+                pointsThrown += piece.numPoints;
+                pointsInside += inside;
+                if (--pendingPieces == 0) {
+                    result.complete(pointsInside);
+                }
+            }
+        });
+        calls.track(worker, call);
+    }
+
+    public void abandon(WorkerPrx worker) {
+        calls.abandon(worker);
+    }
+
+    // El tramo pasa entero al siguiente worker activo con el mismo subflujo e indices.
+    private void reassign(WorkerPrx worker, WorkUnit piece, Throwable ex) {
+        calls.exclude(worker);
+        Log.warn("Tramo de %d puntos del bloque %d fallo (%s); se reasigna.", piece.numPoints, unit.chunkId, ex.getClass().getSimpleName());
+        WorkerPrx next = calls.nextWorker(workers, worker);
+        if (next == null) {
+            result.completeExceptionally(ex);
+            return;
+        }
+        send(next, piece);
+    }
+
+    // El padre recibe un solo reporte por intervalo con la suma de los tramos; si cancela, los tramos se detienen.
+    public boolean report(long chunkId, long pointsThrown, long pointsInside, long intervalNanos) {
+        long[] piece = progress.get(chunkId);
+        if (piece == null) {
+            return !cancelled;
+        }
+        long thrown;
+        long inside;
+        synchronized (this) {
+            piece[0] = pointsThrown;
+            piece[1] = pointsInside;
+            long now = System.nanoTime();
+            if (parentListener == null || now - lastForward < intervalNanos) {
+                return !cancelled;
+            }
+            lastForward = now;
+            thrown = this.pointsThrown;
+            inside = this.pointsInside;
+            for (long[] other : progress.values()) {
+                thrown += other[0];
+                inside += other[1];
+            }
+        }
+        parentListener.reportProgressAsync(unit.jobId, unit.chunkId, thrown, inside).whenComplete((keepGoing, ex) -> {
+            if (ex == null && !keepGoing) {
+                cancelled = true;
+            }
+        });
+        return !cancelled;
+    }
+}
@@ -0,0 +1,53 @@
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import Demo.WorkerPrx;
+
+// Invocaciones en curso de un reparto, agrupadas por worker. Un worker puede tener varias a la vez cuando
+// recibe el reintento de otro que fallo; si sale del registro hay que cancelarlas todas, o un worker colgado
+// dejaria el reparto esperando para siempre.
+public class WorkerCalls<T> {
+
+    private final Map<WorkerPrx, Set<CompletableFuture<T>>> inFlight = new ConcurrentHashMap<>();
+    private final Set<WorkerPrx> abandoned = ConcurrentHashMap.newKeySet();
+
+    // Si el worker ya fue abandonado, la invocacion se cancela apenas se registra.
+    public void track(WorkerPrx worker, CompletableFuture<T> call) {
+        Set<CompletableFuture<T>> calls = inFlight.computeIfAbsent(worker, w -> ConcurrentHashMap.newKeySet());
+        calls.add(call);
+        call.whenComplete((result, ex) -> calls.remove(call));
+        if (abandoned.contains(worker)) {
+            call.cancel(false);
+        }
+    }
+
+    public void abandon(WorkerPrx worker) {
+        abandoned.add(worker);
+        Set<CompletableFuture<T>> calls = inFlight.get(worker);
+        if (calls != null) {
+            for (CompletableFuture<T> call : calls) {
+                call.cancel(false);
+            }
+        }
+    }
+
+    // El worker deja de recibir envios, pero lo que ya tiene en curso sigue; se usa cuando falla una invocacion.
+    public void exclude(WorkerPrx worker) {
+        abandoned.add(worker);
+    }
+
+    // El reintento va al siguiente worker de la lista que siga activo; null si no queda ninguno.
+    public WorkerPrx nextWorker(List<WorkerPrx> workers, WorkerPrx failed) {
+        int start = workers.indexOf(failed);
+        for (int i = 1; i <= workers.size(); i++) {
+            WorkerPrx candidate = workers.get((start + i) % workers.size());
+            if (!abandoned.contains(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
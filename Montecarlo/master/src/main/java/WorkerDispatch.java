@@ -0,0 +1,13 @@
+import Demo.WorkerPrx;
+
+// Un reparto en curso de bloques entre workers.
+public interface WorkerDispatch {
+
+    // Llamado cuando el worker sale del registro; sus bloques pendientes pasan a los demas.
+    void abandon(WorkerPrx worker);
+
+    // Invocaciones en curso y bloques esperando worker, para las metricas de colas.
+    int getChunksInFlight();
+
+    int getQueuedChunks();
+}
@@ -0,0 +1,99 @@
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import Demo.WorkerPrx;
+
+// Ritmo estimado de cada worker en puntos por segundo. Parte del valor que el worker mide al arrancar y se
+// ajusta con una media movil exponencial de los bloques que termina, que incluye la latencia de red real.
+public class WorkerThroughput {
+
+    private static final double ALPHA = 0.3;
+    // Los bloques mas pequenos miden sobre todo latencia, no ritmo de muestreo.
+    private static final long MIN_SAMPLE_POINTS = 1000000;
+
+    private final Map<String, Double> rates = new ConcurrentHashMap<>();
+
+    // Lo anunciado solo vale mientras no haya bloques medidos; un anuncio tardio no pisa la media real.
+    public void advertise(WorkerPrx worker, double pointsPerSecond) {
+        if (pointsPerSecond > 0) {
+            rates.putIfAbsent(worker.ice_getIdentity().name, pointsPerSecond);
+        }
+    }
+
+    public void record(WorkerPrx worker, long points, long nanos) {
+        if (points < MIN_SAMPLE_POINTS || nanos <= 0) {
+            return;
+        }
+        double observed = points * 1e9 / nanos;
+        rates.merge(worker.ice_getIdentity().name, observed, (previous, sample) -> previous + ALPHA * (sample - previous));
+    }
+
+    public void forget(WorkerPrx worker) {
+        rates.remove(worker.ice_getIdentity().name);
+    }
+
+    // Un worker sin medida recibe el promedio de los demas; si nadie tiene medida, todos pesan igual.
+    public double rateOf(WorkerPrx worker, List<WorkerPrx> group) {
+        Double rate = rates.get(worker.ice_getIdentity().name);
+        if (rate != null) {
+            return rate;
+        }
+        double sum = 0;
+        int known = 0;
+        for (WorkerPrx other : group) {
+            Double otherRate = rates.get(other.ice_getIdentity().name);
+            if (otherRate != null) {
+                sum += otherRate;
+                known++;
+            }
+        }
+        return known == 0 ? 1.0 : sum / known;
+    }
+
+    // Los ritmos de todo el grupo con la misma regla que rateOf, pero recorriendolo una sola vez en lugar de una
+    // por worker sin medida.
+    public double[] ratesOf(List<WorkerPrx> group) {
+        double[] result = new double[group.size()];
+        double sum = 0;
+        int known = 0;
+        for (int i = 0; i < result.length; i++) {
+            Double rate = rates.get(group.get(i).ice_getIdentity().name);
+            result[i] = rate == null ? Double.NaN : rate;
+            if (rate != null) {
+                sum += rate;
+                known++;
+            }
+        }
+        double average = known == 0 ? 1.0 : sum / known;
+        for (int i = 0; i < result.length; i++) {
+            if (Double.isNaN(result[i])) {
+                result[i] = average;
+            }
+        }
+        return result;
+    }
+
+    // Fraccion del ritmo total del grupo que aporta el worker.
+    public double shareOf(WorkerPrx worker, List<WorkerPrx> group) {
+        return rateOf(worker, group) / sum(ratesOf(group));
+    }
+
+    // Ritmo conjunto del grupo; 0 si ningun worker tiene medida todavia.
+    public double totalRate(List<WorkerPrx> group) {
+        for (WorkerPrx worker : group) {
+            if (rates.containsKey(worker.ice_getIdentity().name)) {
+                return sum(ratesOf(group));
+            }
+        }
+        return 0;
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,36 @@
+// Pares antiteticos en [0, 1)^2: el indice par usa (u, v) y el impar siguiente (1 - u, 1 - v).
+// Un tramo que corta un par sortea su mitad suelta de forma independiente; el estimador sigue siendo insesgado.
+public class AntitheticSampler implements PointSampler {
+
+    public long countPointsInCircle(RandomSource random, long firstIndex, long numPoints) {
+        long inside = 0;
+        long done = 0;
+
+        if ((firstIndex & 1) != 0 && numPoints > 0) {
+            inside += single(random);
+            done++;
+        }
+        for (; done + 1 < numPoints; done += 2) {
+            double u = random.nextDouble();
+            double v = random.nextDouble();
+            if (u * u + v * v <= 1) {
+                inside++;
+            }
+            double mirroredU = 1 - u;
+            double mirroredV = 1 - v;
+            if (mirroredU * mirroredU + mirroredV * mirroredV <= 1) {
+                inside++;
+            }
+        }
+        if (done < numPoints) {
+            inside += single(random);
+        }
+        return inside;
+    }
+
+    private static long single(RandomSource random) {
+        double u = random.nextDouble();
+        double v = random.nextDouble();
+        return u * u + v * v <= 1 ? 1 : 0;
+    }
+}
@@ -0,0 +1,41 @@
+import Demo.ProgressListenerPrx;
+
+public class ChunkProgress {
+
+    private final long jobId;
+    private final long chunkId;
+    private final ProgressListenerPrx listener;
+    private final long reportIntervalNanos;
+    private long pointsThrown;
+    private long pointsInside;
+    private long lastReport = System.nanoTime();
+    private volatile boolean cancelled;
+
+    public ChunkProgress(long jobId, long chunkId, ProgressListenerPrx listener, long reportIntervalMillis) {
+        this.jobId = jobId;
+        this.chunkId = chunkId;
+        this.listener = listener;
+        this.reportIntervalNanos = reportIntervalMillis * 1000000L;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    // El reporte es asincrono: el hilo de muestreo nunca espera la respuesta del master.
+    public synchronized void add(long points, long inside) {
+        pointsThrown += points;
+        pointsInside += inside;
+
+        long now = System.nanoTime();
+        if (listener == null || now - lastReport < reportIntervalNanos) {
+            return;
+        }
+        lastReport = now;
+        listener.reportProgressAsync(jobId, chunkId, pointsThrown, pointsInside).whenComplete((keepGoing, ex) -> {
+            if (ex == null && !keepGoing) {
+                cancelled = true;
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+// Reticula determinista de K x K centros de celda en [0, 1)^2: en la fila i estan dentro los j con
+// (2i + 1)^2 + (2j + 1)^2 <= (2K)^2. Cada fila se resuelve con una raiz entera, sin generar puntos.
+public class GridSampler implements PointSampler {
+
+    private final long strataPerSide;
+
+    public GridSampler(long strataPerSide) {
+        this.strataPerSide = strataPerSide;
+    }
+
+    public long countPointsInCircle(RandomSource random, long firstIndex, long numPoints) {
+        long row = firstIndex / strataPerSide;
+        long column = firstIndex % strataPerSide;
+        long inside = 0;
+
+        // El tramo puede empezar y terminar a mitad de fila; solo cuentan las columnas que cubre.
+        for (long remaining = numPoints; remaining > 0; row++, column = 0) {
+            long columns = Math.min(strataPerSide - column, remaining);
+            inside += Math.max(0, Math.min(column + columns, insideInRow(row)) - column);
+            remaining -= columns;
+        }
+        return inside;
+    }
+
+    private long insideInRow(long row) {
+        long odd = 2 * row + 1;
+        long limit = IntMath.floorSqrt(Math.multiplyExact(4 * strataPerSide, strataPerSide) - odd * odd);
+        return Math.min(strataPerSide, (limit + 1) / 2);
+    }
+}
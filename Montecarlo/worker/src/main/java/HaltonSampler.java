@@ -0,0 +1,74 @@
+// Halton en bases 2 y 3 con rotacion de Cranley-Patterson: ambos ejes se desplazan modulo 1 con la aleatorizacion del trabajo.
+public class HaltonSampler implements PointSampler {
+
+    private final double shiftX;
+    private final double shiftY;
+
+    public HaltonSampler(long scramble) {
+        Xoshiro256PlusPlus random = new Xoshiro256PlusPlus(scramble);
+        this.shiftX = random.nextDouble();
+        this.shiftY = random.nextDouble();
+    }
+
+    public long countPointsInCircle(RandomSource random, long firstIndex, long numPoints) {
+        RadicalInverse baseTwo = new RadicalInverse(2, 62, firstIndex);
+        RadicalInverse baseThree = new RadicalInverse(3, 39, firstIndex);
+
+        long inside = 0;
+        for (long i = 0; i < numPoints; i++) {
+            double u = rotate(baseTwo.value(), shiftX);
+            double v = rotate(baseThree.value(), shiftY);
+            if (u * u + v * v <= 1.0) {
+                inside++;
+            }
+            baseTwo.increment();
+            baseThree.increment();
+        }
+        return inside;
+    }
+
+    private static double rotate(double value, double shift) {
+        double rotated = value + shift;
+        return rotated >= 1.0 ? rotated - 1.0 : rotated;
+    }
+
+    // Inverso radical exacto: el valor se guarda como numerador entero sobre base^digits y se incrementa con acarreo.
+    private static final class RadicalInverse {
+        private final int base;
+        private final int[] digits;
+        private final long[] weights;
+        private final double scale;
+        private long numerator;
+
+        private RadicalInverse(int base, int numDigits, long index) {
+            this.base = base;
+            this.digits = new int[numDigits];
+            this.weights = new long[numDigits];
+            long weight = 1;
+            for (int k = numDigits - 1; k >= 0; k--) {
+                weights[k] = weight;
+                weight *= base;
+            }
+            this.scale = 1.0 / Math.pow(base, numDigits);
+            for (int k = 0; index != 0; k++, index /= base) {
+                digits[k] = (int) (index % base);
+                numerator += digits[k] * weights[k];
+            }
+        }
+
+        private double value() {
+            return numerator * scale;
+        }
+
+        private void increment() {
+            for (int k = 0; k < digits.length; k++) {
+                if (++digits[k] < base) {
+                    numerator += weights[k];
+                    return;
+                }
+                digits[k] = 0;
+                numerator -= (base - 1) * weights[k];
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+public interface PointKernel {
+
+    long countPointsInCircle(RandomSource random, long numPoints);
+}
@@ -0,0 +1,47 @@
+public enum PointKernelType {
+
+    SCALAR("scalar") {
+        @Override
+        public PointKernel newKernel() {
+            return new ScalarKernel();
+        }
+    },
+
+    VECTOR("vector") {
+        @Override
+        public PointKernel newKernel() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+                Log.warn("Modulo jdk.incubator.vector no disponible, se usa el kernel escalar.");
+                return SCALAR.newKernel();
+            }
+            try {
+                // Se carga por reflexion para no enlazar la API vectorial cuando el modulo no esta presente.
+                return (PointKernel) Class.forName("VectorKernel").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                Log.warn("No se pudo cargar el kernel vectorial (" + e + "), se usa el kernel escalar.");
+                return SCALAR.newKernel();
+            }
+        }
+    };
+
+    private final String configName;
+
+    PointKernelType(String configName) {
+        this.configName = configName;
+    }
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    public abstract PointKernel newKernel();
+
+    public static PointKernelType fromConfigName(String name) {
+        for (PointKernelType type : values()) {
+            if (type.configName.equalsIgnoreCase(name.trim())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Kernel de muestreo desconocido: " + name);
+    }
+}
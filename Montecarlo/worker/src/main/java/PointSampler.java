@@ -0,0 +1,6 @@
+// Estrategia de muestreo: cuenta cuantos puntos del tramo [firstIndex, firstIndex + numPoints) del trabajo caen en el circulo.
+// Las estrategias deterministas ignoran el generador.
+public interface PointSampler {
+
+    long countPointsInCircle(RandomSource random, long firstIndex, long numPoints);
+}
@@ -0,0 +1,65 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum RandomSourceType {
+
+    THREAD_LOCAL("threadlocal") {
+        @Override
+        public RandomSource newSource() {
+            return new RandomSource() {
+                public double nextDouble() {
+                    return ThreadLocalRandom.current().nextDouble();
+                }
+
+                public long nextLong() {
+                    return ThreadLocalRandom.current().nextLong();
+                }
+            };
+        }
+    },
+
+    SPLITTABLE("splittable") {
+        @Override
+        public RandomSource newSource() {
+            SplittableRandom random = new SplittableRandom();
+            return new RandomSource() {
+                public double nextDouble() {
+                    return random.nextDouble();
+                }
+
+                public long nextLong() {
+                    return random.nextLong();
+                }
+            };
+        }
+    },
+
+    XOSHIRO("xoshiro") {
+        @Override
+        public RandomSource newSource() {
+            return new Xoshiro256PlusPlus(ThreadLocalRandom.current().nextLong());
+        }
+    };
+
+    private final String configName;
+
+    RandomSourceType(String configName) {
+        this.configName = configName;
+    }
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    // Cada llamada obtiene su propia instancia: los generadores no son thread-safe.
+    public abstract RandomSource newSource();
+
+    public static RandomSourceType fromConfigName(String name) {
+        for (RandomSourceType type : values()) {
+            if (type.configName.equalsIgnoreCase(name.trim())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Generador aleatorio desconocido: " + name);
+    }
+}
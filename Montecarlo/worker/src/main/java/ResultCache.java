@@ -0,0 +1,121 @@
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import Demo.SamplingMode;
+import Demo.WorkUnit;
+
+// Cache LRU de conteos de bloques reproducibles: el mismo bloque con semilla siempre da el mismo resultado.
+public class ResultCache {
+
+    private final int maxEntries;
+    private final long maxAgeNanos;
+    private final Map<Key, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ResultCache(int maxEntries, long maxAgeSeconds) {
+        this.maxEntries = maxEntries;
+        this.maxAgeNanos = maxAgeSeconds * 1000000000L;
+        // En orden de acceso, el primero es siempre el usado hace mas tiempo.
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > ResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    public boolean accepts(WorkUnit unit) {
+        return maxEntries > 0 && unit.reproducible;
+    }
+
+    public OptionalLong get(WorkUnit unit) {
+        if (!accepts(unit)) {
+            return OptionalLong.empty();
+        }
+        Key key = new Key(unit);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.createdAt > maxAgeNanos) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.incrementAndGet();
+                return OptionalLong.empty();
+            }
+            hits.incrementAndGet();
+            return OptionalLong.of(entry.pointsInside);
+        }
+    }
+
+    public void put(WorkUnit unit, long pointsInside) {
+        if (!accepts(unit)) {
+            return;
+        }
+        Key key = new Key(unit);
+        synchronized (this) {
+            entries.put(key, new Entry(pointsInside, System.nanoTime()));
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // El estado del subflujo ya identifica la semilla y el segmento; jobId y chunkId no forman parte de la clave.
+    private static final class Key {
+        private final long[] stream;
+        private final SamplingMode mode;
+        private final long firstIndex;
+        private final long numPoints;
+        private final long scramble;
+        private final long resolution;
+
+        private Key(WorkUnit unit) {
+            this.stream = unit.stream.clone();
+            this.mode = unit.mode;
+            this.firstIndex = unit.firstIndex;
+            this.numPoints = unit.numPoints;
+            this.scramble = unit.scramble;
+            this.resolution = unit.resolution;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return Arrays.equals(stream, key.stream) && mode == key.mode && firstIndex == key.firstIndex
+                    && numPoints == key.numPoints && scramble == key.scramble && resolution == key.resolution;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Arrays.hashCode(stream);
+            hash = 31 * hash + mode.hashCode();
+            hash = 31 * hash + Long.hashCode(firstIndex);
+            hash = 31 * hash + Long.hashCode(numPoints);
+            hash = 31 * hash + Long.hashCode(scramble);
+            return 31 * hash + Long.hashCode(resolution);
+        }
+    }
+
+    private static final class Entry {
+        private final long pointsInside;
+        private final long createdAt;
+
+        private Entry(long pointsInside, long createdAt) {
+            this.pointsInside = pointsInside;
+            this.createdAt = createdAt;
+        }
+    }
+}
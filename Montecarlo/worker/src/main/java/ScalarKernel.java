@@ -0,0 +1,16 @@
+public class ScalarKernel implements PointKernel {
+
+    public long countPointsInCircle(RandomSource random, long numPoints) {
+        long pointsInCircle = 0;
+
+        for (long i = 0; i < numPoints; i++) {
+            double x = random.nextDouble() * 2 - 1;
+            double y = random.nextDouble() * 2 - 1;
+            if (x * x + y * y <= 1) {
+                pointsInCircle++;
+            }
+        }
+
+        return pointsInCircle;
+    }
+}
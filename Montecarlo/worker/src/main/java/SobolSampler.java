@@ -0,0 +1,73 @@
+// Sobol en dos dimensiones con enteros de 64 bits, recorrido en orden de Gray (Antonov-Saleev):
+// cada punto difiere del anterior en un solo numero de direccion.
+public class SobolSampler implements PointSampler {
+
+    private static final long[] DIRECTIONS_X = new long[64];
+    private static final long[] DIRECTIONS_Y = new long[64];
+
+    static {
+        // Dimension 1: van der Corput en base 2. Dimension 2: polinomio primitivo x + 1.
+        DIRECTIONS_Y[0] = 1L << 63;
+        for (int k = 0; k < 64; k++) {
+            DIRECTIONS_X[k] = 1L << (63 - k);
+            if (k > 0) {
+                DIRECTIONS_Y[k] = DIRECTIONS_Y[k - 1] ^ (DIRECTIONS_Y[k - 1] >>> 1);
+            }
+        }
+    }
+
+    private final long seedX;
+    private final long seedY;
+
+    public SobolSampler(long scramble) {
+        this.seedX = mix(scramble);
+        this.seedY = mix(scramble + 0x9E3779B97F4A7C15L);
+    }
+
+    public long countPointsInCircle(RandomSource random, long firstIndex, long numPoints) {
+        long gray = firstIndex ^ (firstIndex >>> 1);
+        long x = 0;
+        long y = 0;
+        for (int k = 0; gray != 0; k++, gray >>>= 1) {
+            if ((gray & 1) != 0) {
+                x ^= DIRECTIONS_X[k];
+                y ^= DIRECTIONS_Y[k];
+            }
+        }
+
+        long inside = 0;
+        for (long i = 0; i < numPoints; i++) {
+            double u = toUnit(scramble(x, seedX));
+            double v = toUnit(scramble(y, seedY));
+            if (u * u + v * v <= 1.0) {
+                inside++;
+            }
+            int k = Long.numberOfTrailingZeros(firstIndex + i + 1);
+            x ^= DIRECTIONS_X[k];
+            y ^= DIRECTIONS_Y[k];
+        }
+        return inside;
+    }
+
+    // Mezcla anidada al estilo Laine-Karras: con los bits invertidos, cada bit de salida solo depende de los
+    // bits inferiores, asi cada digito se permuta segun los digitos mas significativos y la red se conserva.
+    private static long scramble(long value, long seed) {
+        long x = Long.reverse(value);
+        x ^= x * 0x3D20ADEA6A3F0E2CL;
+        x += seed;
+        x *= (seed >>> 32) | 1;
+        x ^= x * 0x05526C56D7E1B4A8L;
+        x ^= x * 0x53A22864F2C9A7D6L;
+        return Long.reverse(x);
+    }
+
+    private static double toUnit(long bits) {
+        return (bits >>> 11) * 0x1.0p-53;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
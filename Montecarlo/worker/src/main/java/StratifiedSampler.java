@@ -0,0 +1,30 @@
+// Un punto por celda de una reticula K x K sobre [0, 1)^2: el indice i cae en la fila i / K y la columna i % K.
+public class StratifiedSampler implements PointSampler {
+
+    private final long strataPerSide;
+    private final double cellSize;
+
+    public StratifiedSampler(long strataPerSide) {
+        this.strataPerSide = strataPerSide;
+        this.cellSize = 1.0 / strataPerSide;
+    }
+
+    public long countPointsInCircle(RandomSource random, long firstIndex, long numPoints) {
+        long row = firstIndex / strataPerSide;
+        long column = firstIndex % strataPerSide;
+        long inside = 0;
+
+        for (long i = 0; i < numPoints; i++) {
+            double x = (column + random.nextDouble()) * cellSize;
+            double y = (row + random.nextDouble()) * cellSize;
+            if (x * x + y * y <= 1) {
+                inside++;
+            }
+            if (++column == strataPerSide) {
+                column = 0;
+                row++;
+            }
+        }
+        return inside;
+    }
+}
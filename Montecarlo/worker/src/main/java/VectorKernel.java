@@ -0,0 +1,65 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorKernel implements PointKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final long ONE_BITS = Double.doubleToRawLongBits(1.0);
+
+    private final ScalarKernel tailKernel = new ScalarKernel();
+
+    // Cada carril ejecuta su propio xoshiro256++, sembrado desde el generador de la tarea. El estado se carga aqui
+    // mismo: si llega como LongVector desde otro metodo, C2 no conoce la clase exacta de los vectores del ciclo y
+    // los crea como objetos en cada iteracion, y el kernel termina tan lento como el escalar.
+    public long countPointsInCircle(RandomSource random, long numPoints) {
+        int lanes = LONGS.length();
+        long vectorPoints = numPoints - numPoints % lanes;
+
+        long[] seeds = new long[4 * lanes];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong() | 1L;
+        }
+        LongVector s0 = LongVector.fromArray(LONGS, seeds, 0);
+        LongVector s1 = LongVector.fromArray(LONGS, seeds, lanes);
+        LongVector s2 = LongVector.fromArray(LONGS, seeds, 2 * lanes);
+        LongVector s3 = LongVector.fromArray(LONGS, seeds, 3 * lanes);
+        long inside = 0;
+
+        for (long i = 0; i < vectorPoints; i += lanes) {
+            LongVector rx = s0.add(s3).lanewise(VectorOperators.ROL, 23).add(s0);
+            LongVector t = s1.lanewise(VectorOperators.LSHL, 17);
+            s2 = s2.lanewise(VectorOperators.XOR, s0);
+            s3 = s3.lanewise(VectorOperators.XOR, s1);
+            s1 = s1.lanewise(VectorOperators.XOR, s2);
+            s0 = s0.lanewise(VectorOperators.XOR, s3);
+            s2 = s2.lanewise(VectorOperators.XOR, t);
+            s3 = s3.lanewise(VectorOperators.ROL, 45);
+
+            LongVector ry = s0.add(s3).lanewise(VectorOperators.ROL, 23).add(s0);
+            t = s1.lanewise(VectorOperators.LSHL, 17);
+            s2 = s2.lanewise(VectorOperators.XOR, s0);
+            s3 = s3.lanewise(VectorOperators.XOR, s1);
+            s1 = s1.lanewise(VectorOperators.XOR, s2);
+            s0 = s0.lanewise(VectorOperators.XOR, s3);
+            s2 = s2.lanewise(VectorOperators.XOR, t);
+            s3 = s3.lanewise(VectorOperators.ROL, 45);
+
+            DoubleVector x = toSquare(rx);
+            DoubleVector y = toSquare(ry);
+            // La mascara se cuenta directamente, sin convertirla a un vector de enteros.
+            inside += x.mul(x).add(y.mul(y)).compare(VectorOperators.LE, 1.0).trueCount();
+        }
+
+        return inside + tailKernel.countPointsInCircle(random, numPoints - vectorPoints);
+    }
+
+    // Los 52 bits altos forman un double en [1, 2), que se lleva a [-1, 1) sin conversion entero-double.
+    private static DoubleVector toSquare(LongVector bits) {
+        DoubleVector unit = bits.lanewise(VectorOperators.LSHR, 12)
+                .lanewise(VectorOperators.OR, ONE_BITS)
+                .reinterpretAsDoubles();
+        return unit.mul(2.0).sub(3.0);
+    }
+}
@@ -12,27 +12,48 @@ public class Worker {
         try {
 
             communicator = Util.initialize(args);
-            masterProxy = Demo.MasterPrx.checkedCast(communicator.stringToProxy("Master:default -p 10000"));
+            communicator.getProperties().parseCommandLineOptions("Worker", args);
+            Log.setLevel(communicator.getProperties().getPropertyWithDefault("Worker.LogLevel", "info"));
+            // Worker.Master apunta al master raiz o a un sub-master; varios grupos en un host necesitan Worker.Port.
+            masterProxy = Demo.MasterPrx.checkedCast(communicator.stringToProxy(
+                    communicator.getProperties().getPropertyWithDefault("Worker.Master", "Master:default -p 10000")));
 
             int workerCount = masterProxy.getWorkerCount() + 1;
-            int port = 10000 + workerCount;
+            int port = communicator.getProperties().getPropertyAsIntWithDefault("Worker.Port", 10000 + workerCount);
             String name = "Worker" + workerCount;
 
-            Demo.Worker worker = new WorkerI(name);
+            RandomSourceType randomSourceType = RandomSourceType.fromConfigName(
+                    communicator.getProperties().getPropertyWithDefault("Worker.Rng", "xoshiro"));
+            PointKernelType kernelType = PointKernelType.fromConfigName(
+                    communicator.getProperties().getPropertyWithDefault("Worker.Kernel", "scalar"));
+            int samplingThreads = communicator.getProperties().getPropertyAsIntWithDefault(
+                    "Worker.Threads", Runtime.getRuntime().availableProcessors());
+            int progressInterval = communicator.getProperties().getPropertyAsIntWithDefault("Worker.ProgressInterval", 1000);
+            ResultCache cache = new ResultCache(
+                    communicator.getProperties().getPropertyAsIntWithDefault("Worker.Cache.Size", 1024),
+                    communicator.getProperties().getPropertyAsIntWithDefault("Worker.Cache.MaxAge", 3600));
+
+            WorkerI worker = new WorkerI(name, randomSourceType, kernelType.newKernel(), samplingThreads, progressInterval, cache);
+            double pointsPerSecond = worker.calibrate(communicator.getProperties().getPropertyAsIntWithDefault("Worker.CalibrationPoints", 1 << 24));
             com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapterWithEndpoints("WorkerAdapter", "default -p " + port);
             com.zeroc.Ice.ObjectPrx object = adapter.add(worker, com.zeroc.Ice.Util.stringToIdentity(name)); 
+            adapter.add(new StatsI(worker.getMetrics()), com.zeroc.Ice.Util.stringToIdentity("Stats"));
             adapter.activate();
 
             WorkerPrx workerPrx = WorkerPrx.checkedCast(object);
 
             if (masterProxy.addWorker(name, workerPrx)){
-                System.out.println(name + " registrado exitosamente en el Master.");
-                System.out.println(name + " listo y escuchando en el puerto " + port + "..."); 
+                Log.info(name + " registrado exitosamente en el Master.");
+                Log.info(name + " listo y escuchando en el puerto " + port + "..."); 
+                Log.info("Generador aleatorio: " + randomSourceType.getConfigName());
+                Log.info("Kernel de muestreo: " + kernelType.getConfigName());
+                Log.info("Hilos de muestreo: " + samplingThreads);
+                Log.info("Ritmo medido: %.0f puntos/s", pointsPerSecond);
             }
 
             Thread scannerThread = new Thread(() -> {
                 Scanner scanner = new Scanner(System.in);
-                System.out.println("Escriba exit si desea finalizar la ejecucion del worker.");
+                Log.info("Escriba exit si desea finalizar la ejecucion del worker.");
                 while (true) {
                     String input = scanner.nextLine();
                     if ("exit".equalsIgnoreCase(input)) {
@@ -40,7 +61,7 @@ public class Worker {
                             if (masterProxy != null) {
                                 masterProxy.removeWorker(name);
                             }
-                            System.out.println("Worker eliminado. Saliendo...");
+                            Log.info("Worker eliminado. Saliendo...");
                             communicator.close();
                             break;
                         } catch (Exception e) {
@@ -52,7 +73,12 @@ public class Worker {
             });
             scannerThread.start();
             
+            MetricsEndpoint metrics = MetricsEndpoint.start(worker.getMetrics(),
+                    communicator.getProperties().getPropertyAsIntWithDefault("Worker.Metrics.Port", 0));
             communicator.waitForShutdown();
+            if (metrics != null) {
+                metrics.close();
+            }
 
         } catch (Exception e) {
             e.printStackTrace();
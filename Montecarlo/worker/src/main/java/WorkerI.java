@@ -1,10 +1,59 @@
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+
+import Demo.ProgressListenerPrx;
+import Demo.SamplingMode;
+import Demo.WorkUnit;
+
 public class WorkerI implements Demo.Worker{
 
+    private static final int MIN_POINTS_PER_TASK = 100000;
+    // Coincide con el segmento de los trabajos con semilla: cada tramo usa un subflujo propio.
+    private static final long POINTS_PER_SLICE = StreamSegments.SEGMENT_POINTS;
+    // La reticula cuesta una raiz entera por fila, no por punto; sus tramos se miden en filas.
+    private static final long GRID_ROWS_PER_SLICE = 1 << 16;
+
     private final String name;
+    private final RandomSourceType randomSourceType;
+    private final PointKernel kernel;
+    private final ForkJoinPool samplingPool;
+    private final long progressIntervalMillis;
+    private final ResultCache cache;
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final LongAdder pointsSampled;
+    private final LongAdder chunksSampled;
+    private final LongAdder batches;
+    private final Histogram chunkDuration;
+    private volatile double pointsPerSecond;
 
-    public WorkerI(String name){
+    public WorkerI(String name, RandomSourceType randomSourceType, PointKernel kernel, int samplingThreads, long progressIntervalMillis, ResultCache cache){
         this.name = name;
+        this.randomSourceType = randomSourceType;
+        this.kernel = kernel;
+        this.samplingPool = new ForkJoinPool(samplingThreads);
+        this.progressIntervalMillis = progressIntervalMillis;
+        this.cache = cache;
+
+        pointsSampled = metrics.counter("worker_points_total", "Puntos muestreados (sin contar aciertos de cache)");
+        chunksSampled = metrics.counter("worker_chunks_total", "Bloques muestreados (sin contar aciertos de cache)");
+        batches = metrics.counter("worker_batches_total", "Lotes recibidos");
+        chunkDuration = metrics.histogram("worker_chunk_duration_seconds", "Tiempo de muestreo de cada bloque");
+        metrics.counter("worker_cache_hits_total", "Bloques respondidos desde la cache", cache::getHits);
+        metrics.counter("worker_cache_misses_total", "Bloques reproducibles que no estaban en la cache", cache::getMisses);
+        metrics.gauge("worker_sampling_queue_depth", "Tareas esperando en el pool de muestreo",
+                () -> samplingPool.getQueuedTaskCount() + samplingPool.getQueuedSubmissionCount());
+        metrics.gauge("worker_sampling_active_threads", "Hilos del pool de muestreo ocupados", samplingPool::getActiveThreadCount);
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
     }
 
     public String getName(com.zeroc.Ice.Current current ){
@@ -15,21 +64,178 @@ public class WorkerI implements Demo.Worker{
 
     }
 
-    public int countPointsInCircle(int numPoints, com.zeroc.Ice.Current current ) {
+    public Demo.WorkerInfo getInfo(com.zeroc.Ice.Current current) {
+        return new Demo.WorkerInfo(Runtime.getRuntime().availableProcessors(), samplingPool.getParallelism(), pointsPerSecond,
+                randomSourceType.getConfigName(), kernel.getClass().getSimpleName());
+    }
+
+    // Micro-benchmark de arranque con el kernel y los hilos configurados; la primera ronda solo calienta el JIT.
+    // No pasa por count: sus puntos no son trabajo pedido y no deben aparecer en las metricas.
+    public double calibrate(long points) {
+        if (points <= 0) {
+            return 0;
+        }
+        WorkUnit unit = new WorkUnit(0, 0, points, new long[0], SamplingMode.Uniform, 0, 0, 0, false);
+        sampleUnit(unit, new ChunkProgress(0, 0, null, progressIntervalMillis));
+        long start = System.nanoTime();
+        sampleUnit(unit, new ChunkProgress(0, 0, null, progressIntervalMillis));
+        pointsPerSecond = points * 1e9 / (System.nanoTime() - start);
+        return pointsPerSecond;
+    }
+
+    // El conteo corre en el pool de muestreo; el unico hilo de despacho del worker queda libre para los pings del
+    // master, que de otro modo esperarian detras de un bloque largo y el worker se daria por caido.
+    public CompletionStage<Long> countPointsInCircleAsync(WorkUnit unit, ProgressListenerPrx listener, com.zeroc.Ice.Current current ) {
+
+        Log.debug("Lanzando %d puntos (%s%s)...", unit.numPoints, unit.mode, unit.stream.length > 0 ? ", con semilla" : "");
+        return CompletableFuture.supplyAsync(() -> count(unit, listener), samplingPool).thenApply(pointsInCircle -> {
+            Log.debug("Numero de puntos dentro del circulo: %d", pointsInCircle);
+            if (cache.accepts(unit)) {
+                printCacheStats();
+            }
+            return pointsInCircle;
+        });
+    }
+
+    // Los bloques de un lote se resuelven en paralelo en el mismo pool; los pequenos ocupan un hilo cada uno.
+    public CompletionStage<long[]> countPointsInCircleBatchAsync(WorkUnit[] units, ProgressListenerPrx listener, com.zeroc.Ice.Current current) {
 
-        System.out.printf("Lanzando %d puntos...%n", numPoints);
-        int pointsInCircle = 0;
+        long totalPoints = 0;
+        for (WorkUnit unit : units) {
+            totalPoints += unit.numPoints;
+        }
+        Log.debug("Lanzando lote de %d bloques (%d puntos)...", units.length, totalPoints);
+        batches.increment();
 
-        for (int i = 0; i < numPoints; i++) {
-            double x = Math.random() * 2 - 1;
-            double y = Math.random() * 2 - 1;
-            if (x * x + y * y <= 1) {
-                pointsInCircle++;
+        List<CompletableFuture<Long>> tasks = new ArrayList<>();
+        for (WorkUnit unit : units) {
+            tasks.add(CompletableFuture.supplyAsync(() -> count(unit, listener), samplingPool));
+        }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            long[] counts = new long[units.length];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = tasks.get(i).join();
             }
+
+            Log.debug("Lote de %d bloques terminado.", units.length);
+            if (units.length > 0 && cache.accepts(units[0])) {
+                printCacheStats();
+            }
+            return counts;
+        });
+    }
+
+    private void printCacheStats() {
+        Log.debug("Cache de resultados: %d aciertos, %d fallos", cache.getHits(), cache.getMisses());
+    }
+
+    private long count(WorkUnit unit, ProgressListenerPrx listener) {
+
+        OptionalLong cached = cache.get(unit);
+        if (cached.isPresent()) {
+            return cached.getAsLong();
         }
 
-        System.out.printf("Numero de puntos dentro del circulo: %d%n", pointsInCircle);
+        long started = System.nanoTime();
+        ChunkProgress progress = new ChunkProgress(unit.jobId, unit.chunkId, listener, progressIntervalMillis);
+        long pointsInCircle = sampleUnit(unit, progress);
 
+        chunkDuration.record(System.nanoTime() - started);
+        chunksSampled.increment();
+        pointsSampled.add(unit.numPoints);
+        // Un bloque cancelado solo tiene un conteo parcial.
+        if (!progress.isCancelled()) {
+            cache.put(unit, pointsInCircle);
+        }
         return pointsInCircle;
     }
+
+    private long sampleUnit(WorkUnit unit, ChunkProgress progress) {
+
+        long numPoints = unit.numPoints;
+        boolean seeded = unit.stream.length > 0;
+        PointSampler sampler = newSampler(unit);
+
+        // Con semilla se reparten segmentos enteros, asi el conteo no depende del numero de hilos.
+        long units = seeded ? StreamSegments.segmentsFor(numPoints) : numPoints / MIN_POINTS_PER_TASK;
+        int numTasks = (int) Math.max(1, Math.min(samplingPool.getParallelism(), units));
+        long pointsInCircle = 0;
+
+        if (numTasks == 1) {
+            pointsInCircle = sample(progress, sampler, unit, 0, numPoints);
+        } else {
+            List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+
+            for (int i = 0; i < numTasks; i++) {
+                long start = taskBoundary(numPoints, seeded, units, i, numTasks);
+                long end = taskBoundary(numPoints, seeded, units, i + 1, numTasks);
+                tasks.add(samplingPool.submit(() -> sample(progress, sampler, unit, start, end - start)));
+            }
+            for (ForkJoinTask<Long> task : tasks) {
+                pointsInCircle += task.join();
+            }
+        }
+        return pointsInCircle;
+    }
+
+    // Sin semilla los cortes caen en indices pares para no separar los pares antiteticos.
+    private static long taskBoundary(long numPoints, boolean seeded, long units, int task, int numTasks) {
+        if (task == numTasks) {
+            return numPoints;
+        }
+        if (seeded) {
+            return Math.min(numPoints, units * task / numTasks * StreamSegments.SEGMENT_POINTS);
+        }
+        // Equivale a numPoints * task / numTasks sin desbordar en reticulas muy grandes.
+        return (numPoints / numTasks * task + numPoints % numTasks * task / numTasks) & ~1L;
+    }
+
+    // Se muestrea por tramos para poder reportar progreso y detenerse si el master cancela el trabajo.
+    // Con semilla cada tramo es un segmento y parte de su propio estado, obtenido saltando desde el estado del bloque.
+    private long sample(ChunkProgress progress, PointSampler sampler, WorkUnit unit, long offset, long numPoints) {
+        Xoshiro256PlusPlus cursor = null;
+        RandomSource random = null;
+        if (unit.stream.length > 0) {
+            cursor = new Xoshiro256PlusPlus(unit.stream);
+            for (long i = 0; i < offset / StreamSegments.SEGMENT_POINTS; i++) {
+                cursor.jump();
+            }
+        } else {
+            // El generador se crea dentro de la tarea para que cada hilo tenga su propio flujo.
+            random = randomSourceType.newSource();
+        }
+        long sliceSize = unit.mode == SamplingMode.Grid ? Math.max(POINTS_PER_SLICE, unit.resolution * GRID_ROWS_PER_SLICE) : POINTS_PER_SLICE;
+        long pointsInCircle = 0;
+
+        for (long done = 0; done < numPoints && !progress.isCancelled(); ) {
+            long slice = Math.min(sliceSize, numPoints - done);
+            if (cursor != null) {
+                random = new Xoshiro256PlusPlus(cursor.getState());
+                cursor.jump();
+            }
+            long inside = sampler.countPointsInCircle(random, unit.firstIndex + offset + done, slice);
+            progress.add(slice, inside);
+            pointsInCircle += inside;
+            done += slice;
+        }
+
+        return pointsInCircle;
+    }
+
+    private PointSampler newSampler(WorkUnit unit) {
+        switch (unit.mode) {
+            case Sobol:
+                return new SobolSampler(unit.scramble);
+            case Halton:
+                return new HaltonSampler(unit.scramble);
+            case Stratified:
+                return new StratifiedSampler(unit.resolution);
+            case Antithetic:
+                return new AntitheticSampler();
+            case Grid:
+                return new GridSampler(unit.resolution);
+            default:
+                return (random, firstIndex, numPoints) -> kernel.countPointsInCircle(random, numPoints);
+        }
+    }
 }